@@ -0,0 +1,152 @@
+package org.openstreetmap.josm.data.validation.tests;
+
+import org.openstreetmap.josm.data.osm.Node;
+import org.openstreetmap.josm.gui.progress.NullProgressMonitor;
+import org.openstreetmap.josm.spi.preferences.Config;
+import org.openstreetmap.josm.spi.preferences.MemoryPreferences;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmarks for the hot paths of {@link GeorgianToponyms}. Dataset benchmarks score one
+ * validation pass over all place nodes; divide by {@code placeNodes} for the cost per node.
+ * Run with {@code -prof gc} to get the allocation per pass ({@code gc.alloc.rate.norm}).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GeorgianToponymsBenchmark {
+
+    @State(Scope.Thread)
+    public static class Country {
+        @Param({"10000", "200000"})
+        int placeNodes;
+
+        @Param({"0", "2", "4"})
+        int relationDepth;
+
+        @Param({"20"})
+        int relationsPerLevel;
+
+        @Param({"0.1"})
+        double missRatio;
+
+        @Param({"true", "false"})
+        boolean parallel;
+
+        GeorgianToponyms test;
+        List<Node> nodes;
+
+        @Setup(Level.Trial)
+        public void generate() {
+            Benchmarks.initPreferences();
+            Config.getPref().putBoolean(GeorgianToponyms.PARALLEL_PREF, parallel);
+            nodes = SyntheticDataSets.generate(placeNodes, relationDepth, relationsPerLevel, missRatio, 42)
+                    .getPlaceNodes();
+            test = new GeorgianToponyms();
+        }
+
+        @Setup(Level.Invocation)
+        public void startTest() {
+            test.startTest(NullProgressMonitor.INSTANCE);
+        }
+
+        @TearDown(Level.Invocation)
+        public void clear() {
+            test.clear();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Names {
+        final GeorgianToponyms test = new GeorgianToponyms();
+        GazetteerData gazetteer;
+        final String[] hitsKa = {"ბათუმი", "ქუთაისი", "ზუგდიდი", "თელავი", "ხრამჰესი", "ფონიჭალა"};
+        final String[] missesKa = {"ბათუმ", "ქუთაისსი", "Zugdidi", "თელავი ქალაქი", "ხრამჰეს", ""};
+        final String[] hitsEn = {"Batumi", "Kutaisi", "Zugdidi", "Telavi", "Khramhesi", "Ponichala"};
+        final String[] missesEn = {"Batumy", "Kutaisy", "zugdidi", "Telavi Town", "Khramges", ""};
+
+        @Setup(Level.Trial)
+        public void load() throws IOException {
+            Benchmarks.initPreferences();
+            gazetteer = GazetteerData.readBundled();
+        }
+    }
+
+    /**
+     * Whole validation pass: every place node goes through {@code visit(Node)}, then {@code endTest()}
+     * runs the batch checks when {@code parallel} is set.
+     */
+    @Benchmark
+    public List<?> visitNodes(Country country) {
+        for (Node node : country.nodes) {
+            country.test.visit(node);
+        }
+        country.test.endTest();
+        return country.test.getErrors();
+    }
+
+    /**
+     * Referrer walk up the admin hierarchy, with a cold per-run cache at the start of each pass.
+     */
+    @Benchmark
+    public void hierarchyWalk(Country country, Blackhole blackhole) {
+        for (Node node : country.nodes) {
+            blackhole.consume(country.test.isInGeorgiaHierarchy(node));
+        }
+        country.test.endTest();
+    }
+
+    @Benchmark
+    public void lookupHits(Names names, Blackhole blackhole) {
+        for (int i = 0; i < names.hitsKa.length; i++) {
+            blackhole.consume(names.test.isValidGeorgianNameKa(names.hitsKa[i]));
+            blackhole.consume(names.test.isValidGeorgianNameEn(names.hitsEn[i]));
+        }
+    }
+
+    @Benchmark
+    public void lookupMisses(Names names, Blackhole blackhole) {
+        for (int i = 0; i < names.missesKa.length; i++) {
+            blackhole.consume(names.test.isValidGeorgianNameKa(names.missesKa[i]));
+            blackhole.consume(names.test.isValidGeorgianNameEn(names.missesEn[i]));
+        }
+    }
+
+    /**
+     * "Did you mean" suggestions for names missing from the gazetteer.
+     */
+    @Benchmark
+    public void suggestMisses(Names names, Blackhole blackhole) {
+        for (int i = 0; i < names.missesKa.length; i++) {
+            blackhole.consume(names.gazetteer.getNamesKa().suggest(names.missesKa[i]));
+            blackhole.consume(names.gazetteer.getNamesEn().suggest(names.missesEn[i]));
+        }
+    }
+
+    private static final class Benchmarks {
+        static synchronized void initPreferences() {
+            if (Config.getPref() == null) {
+                Config.setPreferencesInstance(new MemoryPreferences());
+            }
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package org.openstreetmap.josm.data.validation.tests;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Compares the flat {@code ^(?:A|B|C|...)$} alternation formerly used in {@code georgian_toponyms.mapcss}
+ * with the trie-factored regex of {@link MapCssGenerator}, matching every official name plus four
+ * misspellings of each. Scores are per probed name list.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class MapCssRegexBenchmark {
+
+    @Param({"ka", "en"})
+    String language;
+
+    Pattern flat;
+    Pattern trie;
+    List<String> probes;
+
+    @Setup(Level.Trial)
+    public void compile() throws IOException {
+        GazetteerData gazetteer = GazetteerData.readBundled();
+        List<String> names = new ArrayList<>(("ka".equals(language) ? gazetteer.getNamesKa()
+                : gazetteer.getNamesEn()).officialNames());
+        flat = Pattern.compile("^(?:" + names.stream().map(Pattern::quote).collect(Collectors.joining("|")) + ")$");
+        trie = Pattern.compile("^" + MapCssGenerator.trieRegex(names) + "$");
+
+        Random random = new Random(42);
+        probes = new ArrayList<>(names);
+        for (String name : names) {
+            probes.add(name + "ი");
+            probes.add(name.substring(0, name.length() - 1));
+            probes.add(name.substring(1));
+            StringBuilder typo = new StringBuilder(name);
+            typo.setCharAt(random.nextInt(name.length()), 'z');
+            probes.add(typo.toString());
+        }
+    }
+
+    @Benchmark
+    public void flatAlternation(Blackhole blackhole) {
+        for (String probe : probes) {
+            blackhole.consume(flat.matcher(probe).find());
+        }
+    }
+
+    @Benchmark
+    public void trieFactored(Blackhole blackhole) {
+        for (String probe : probes) {
+            blackhole.consume(trie.matcher(probe).find());
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package org.openstreetmap.josm.data.validation.tests;
+
+import org.openstreetmap.josm.data.coor.LatLon;
+import org.openstreetmap.josm.data.osm.DataSet;
+import org.openstreetmap.josm.data.osm.Node;
+import org.openstreetmap.josm.data.osm.Relation;
+import org.openstreetmap.josm.data.osm.RelationMember;
+import org.openstreetmap.josm.data.osm.Way;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generates reproducible country-scale datasets for the validator benchmarks: place nodes spread
+ * over the bounding box of Georgia, a country relation with a closed outer way, and a chain of
+ * admin relations below it.
+ */
+final class SyntheticDataSets {
+
+    static final double SOUTH = 41.05;
+    static final double NORTH = 43.59;
+    static final double WEST = 40.01;
+    static final double EAST = 46.74;
+
+    private static final String[] PLACES = {"city", "town", "village", "neighbourhood", "quarter"};
+    private static final String[] OFFICIAL_EN = {"Batumi", "Kutaisi", "Zugdidi", "Telavi", "Gori", "Rustavi"};
+    private static final String[] OFFICIAL_KA = {"ბათუმი", "ქუთაისი", "ზუგდიდი", "თელავი", "გორი", "თბილისი"};
+
+    private final DataSet dataSet = new DataSet();
+    private final List<Node> placeNodes = new ArrayList<>();
+
+    private SyntheticDataSets() {
+        // use generate()
+    }
+
+    /**
+     * Generates a dataset.
+     * @param placeNodeCount number of place nodes
+     * @param relationDepth number of admin levels below the country relation (0 = country only)
+     * @param relationsPerLevel number of admin relations per level
+     * @param missRatio share of place nodes whose names are not in the gazetteer
+     * @param seed random seed
+     * @return the generated dataset
+     */
+    static SyntheticDataSets generate(int placeNodeCount, int relationDepth, int relationsPerLevel,
+            double missRatio, long seed) {
+        SyntheticDataSets generated = new SyntheticDataSets();
+        Random random = new Random(seed);
+        Relation country = generated.countryRelation();
+
+        List<Relation> parents = Arrays.asList(country);
+        for (int level = 0; level < relationDepth; level++) {
+            List<Relation> children = new ArrayList<>();
+            for (int i = 0; i < relationsPerLevel; i++) {
+                Relation unit = new Relation();
+                unit.put("type", "boundary");
+                unit.put("boundary", "administrative");
+                unit.put("admin_level", Integer.toString(4 + 2 * level));
+                generated.dataSet.addPrimitive(unit);
+                Relation parent = parents.get(i % parents.size());
+                parent.addMember(new RelationMember("subarea", unit));
+                children.add(unit);
+            }
+            parents = children;
+        }
+
+        for (int i = 0; i < placeNodeCount; i++) {
+            Node node = new Node(new LatLon(SOUTH + random.nextDouble() * (NORTH - SOUTH),
+                    WEST + random.nextDouble() * (EAST - WEST)));
+            node.put("place", PLACES[random.nextInt(PLACES.length)]);
+            boolean miss = random.nextDouble() < missRatio;
+            int name = random.nextInt(OFFICIAL_EN.length);
+            node.put("name:en", miss ? OFFICIAL_EN[name] + "y" : OFFICIAL_EN[name]);
+            node.put("name:ka", miss ? OFFICIAL_KA[name] + "ი" : OFFICIAL_KA[name]);
+            generated.dataSet.addPrimitive(node);
+            if (relationDepth > 0) {
+                parents.get(i % parents.size()).addMember(new RelationMember("admin_centre", node));
+            }
+            generated.placeNodes.add(node);
+        }
+        return generated;
+    }
+
+    private Relation countryRelation() {
+        List<Node> ring = new ArrayList<>();
+        for (LatLon corner : Arrays.asList(new LatLon(SOUTH, WEST), new LatLon(SOUTH, EAST),
+                new LatLon(NORTH, EAST), new LatLon(NORTH, WEST))) {
+            Node node = new Node(corner);
+            dataSet.addPrimitive(node);
+            ring.add(node);
+        }
+        ring.add(ring.get(0));
+        Way outer = new Way();
+        outer.setNodes(ring);
+        dataSet.addPrimitive(outer);
+
+        Relation country = new Relation();
+        country.put("type", "boundary");
+        country.put("boundary", "administrative");
+        country.put("admin_level", "2");
+        country.put("int_name", "Georgia");
+        country.addMember(new RelationMember("outer", outer));
+        dataSet.addPrimitive(country);
+        return country;
+    }
+
+    DataSet getDataSet() {
+        return dataSet;
+    }
+
+    List<Node> getPlaceNodes() {
+        return placeNodes;
+    }
+}
@@ -0,0 +1,114 @@
+package org.openstreetmap.josm.data.validation.tests;
+
+import org.openstreetmap.josm.data.osm.Node;
+import org.openstreetmap.josm.gui.progress.NullProgressMonitor;
+import org.openstreetmap.josm.spi.preferences.Config;
+import org.openstreetmap.josm.spi.preferences.MemoryPreferences;
+
+import java.lang.management.ManagementFactory;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Allocation regression guard for the {@code visit(Node)} fast path. Visits every node of a synthetic
+ * dataset with only valid place names and measures the bytes allocated by all threads, which must stay
+ * at zero apart from JIT noise in the default sequential mode. In batch mode, each place node may also
+ * cost its slot in the candidate list and in the result array, plus their growth, which is budgeted by
+ * {@link #MAX_BATCH_BYTES_PER_PLACE}. The referrer walk is measured the same way once its per-run cache
+ * is warm. Exits with status 1 when a pass allocates more than {@link #MAX_BYTES_PER_NODE} per node on
+ * top of its budget.
+ * <p>
+ * Usage: {@code VisitAllocationCheck [placeNodes]}
+ */
+public final class VisitAllocationCheck {
+
+    static final double MAX_BYTES_PER_NODE = 1.0;
+    /**
+     * One reference per place in the result array, and about three in the candidate list, whose growth
+     * copies add up to twice its final size: 16 bytes with compressed references, plus headroom
+     */
+    static final double MAX_BATCH_BYTES_PER_PLACE = 24.0;
+
+    private static final int WARMUP_PASSES = 20;
+
+    private VisitAllocationCheck() {
+        // Hide default constructor for utility classes
+    }
+
+    public static void main(String[] args) {
+        int placeNodes = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        Config.setPreferencesInstance(new MemoryPreferences());
+
+        SyntheticDataSets data = SyntheticDataSets.generate(placeNodes, 2, 20, 0, 42);
+        Collection<Node> nodes = data.getDataSet().getNodes();
+        List<Node> places = data.getPlaceNodes();
+        GeorgianToponyms test = new GeorgianToponyms();
+
+        Config.getPref().putBoolean(GeorgianToponyms.PARALLEL_PREF, false);
+        boolean ok = check("visit(Node)", nodes.size(), 0, () -> validate(test, nodes));
+
+        Config.getPref().putBoolean(GeorgianToponyms.PARALLEL_PREF, true);
+        ok &= check("batch", nodes.size(), MAX_BATCH_BYTES_PER_PLACE * places.size(), () -> validate(test, nodes));
+
+        test.startTest(NullProgressMonitor.INSTANCE);
+        ok &= check("referrer walk", places.size(), 0, () -> {
+            for (Node node : places) {
+                if (!test.isInGeorgiaHierarchy(node)) {
+                    throw new IllegalStateException("place node outside the synthetic country");
+                }
+            }
+        });
+        test.endTest();
+
+        if (!ok) {
+            System.exit(1);
+        }
+    }
+
+    private static void validate(GeorgianToponyms test, Collection<Node> nodes) {
+        test.startTest(NullProgressMonitor.INSTANCE);
+        for (Node node : nodes) {
+            test.visit(node);
+        }
+        test.endTest();
+        if (!test.getErrors().isEmpty()) {
+            throw new IllegalStateException(test.getErrors().size() + " unexpected warnings");
+        }
+        test.clear();
+    }
+
+    /**
+     * Runs warm-up passes, then reports the allocation of one more pass.
+     */
+    private static boolean check(String name, int count, double budget, Runnable pass) {
+        for (int i = 0; i < WARMUP_PASSES; i++) {
+            pass.run();
+        }
+        // The start/end bookkeeping of a run is amortized over all nodes, so measure the best of a few passes
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < 5; i++) {
+            long before = allocatedBytes();
+            pass.run();
+            best = Math.min(best, allocatedBytes() - before);
+        }
+        double limit = MAX_BYTES_PER_NODE * count + budget;
+        boolean ok = best <= limit;
+        System.out.println(String.format(Locale.ROOT, "%-14s %,d nodes, %,d bytes (%.3f bytes/node), limit %,.0f: %s",
+                name, count, best, (double) best / count, limit, ok ? "OK" : "FAIL"));
+        return ok;
+    }
+
+    /**
+     * Returns the bytes allocated so far by all live threads, which includes the fork-join workers of the
+     * batch checks.
+     */
+    private static long allocatedBytes() {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long total = 0;
+        for (long bytes : threads.getThreadAllocatedBytes(threads.getAllThreadIds())) {
+            total += Math.max(0, bytes);
+        }
+        return total;
+    }
+}
@@ -0,0 +1,42 @@
+package org.openstreetmap.josm.data.validation.tests;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Unit tests of {@link AdminUnitIndex}.
+ */
+class AdminUnitIndexTest {
+
+    @Test
+    void municipalityTakesPrecedenceOverRegion() {
+        // The region is added last, so the precedence does not come from the insertion order
+        AdminUnitIndex index = new AdminUnitIndex.Builder()
+                .add("Gori Municipality", 6, square(41.8, 43.8, 42.2, 44.2))
+                .add("Kareli Municipality", 6, square(42.25, 43.6, 42.45, 43.9))
+                .add("Shida Kartli", 4, square(41.5, 43.5, 42.5, 44.5))
+                .build();
+        assertEquals(3, index.size());
+        assertEquals("Gori Municipality", index.unitAt(42.0, 44.0));
+        assertEquals("Kareli Municipality", index.unitAt(42.35, 43.75));
+        assertEquals("Shida Kartli", index.unitAt(41.6, 44.4));
+        assertNull(index.unitAt(41.2, 43.2));
+        assertNull(index.unitAt(50, 50));
+    }
+
+    @Test
+    void buildWithoutUnits() {
+        assertNull(new AdminUnitIndex.Builder().build());
+    }
+
+    private static BoundaryIndex square(double south, double west, double north, double east) {
+        return new BoundaryIndex.Builder()
+                .addEdge(south, west, south, east)
+                .addEdge(south, east, north, east)
+                .addEdge(north, east, north, west)
+                .addEdge(north, west, south, west)
+                .build();
+    }
+}
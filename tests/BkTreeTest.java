@@ -0,0 +1,181 @@
+package org.openstreetmap.josm.data.validation.tests;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests of {@link BkTree} and of the suggestions {@link ToponymGazetteer} picks from it.
+ */
+class BkTreeTest {
+
+    /**
+     * The pruned tree search finds exactly the words a scan of the whole list finds, for random
+     * misspellings of the bundled names.
+     */
+    @Test
+    void searchMatchesBruteForceScan() throws IOException {
+        GazetteerData data = GazetteerData.readBundled();
+        assertMatchesBruteForce(data.getNamesKa().officialNames(), 1);
+        assertMatchesBruteForce(data.getNamesEn().officialNames(), 2);
+    }
+
+    private static void assertMatchesBruteForce(Collection<String> names, long seed) {
+        List<String> words = names.stream().map(ToponymGazetteer::normalize).distinct().collect(Collectors.toList());
+        BkTree tree = new BkTree(words);
+        String alphabet = words.stream().flatMapToInt(String::chars).distinct()
+                .collect(StringBuilder::new, StringBuilder::appendCodePoint, StringBuilder::append).toString();
+        Random random = new Random(seed);
+        for (int i = 0; i < 500; i++) {
+            String query = misspell(words.get(random.nextInt(words.size())), alphabet, random);
+            for (int maxDistance = 0; maxDistance <= 2; maxDistance++) {
+                List<String> expected = new ArrayList<>();
+                for (String word : words) {
+                    int distance = levenshtein(word, query);
+                    if (distance <= maxDistance) {
+                        expected.add(distance + " " + word);
+                    }
+                }
+                Collections.sort(expected);
+                List<String> found = tree.search(query, maxDistance).stream()
+                        .map(match -> match.distance + " " + match.word).collect(Collectors.toList());
+                assertEquals(expected, found, query);
+            }
+        }
+    }
+
+    /**
+     * Applies one to three random insertions, deletions or substitutions.
+     */
+    private static String misspell(String word, String alphabet, Random random) {
+        StringBuilder misspelled = new StringBuilder(word);
+        int edits = 1 + random.nextInt(3);
+        for (int i = 0; i < edits; i++) {
+            char c = alphabet.charAt(random.nextInt(alphabet.length()));
+            int at = random.nextInt(misspelled.length() + 1);
+            int edit = misspelled.length() < 2 ? 0 : random.nextInt(3);
+            if (edit == 0) {
+                misspelled.insert(at, c);
+            } else if (at == misspelled.length()) {
+                misspelled.deleteCharAt(at - 1);
+            } else if (edit == 1) {
+                misspelled.deleteCharAt(at);
+            } else {
+                misspelled.setCharAt(at, c);
+            }
+        }
+        return misspelled.toString();
+    }
+
+    /**
+     * Textbook Levenshtein distance over the full matrix.
+     */
+    private static int levenshtein(String a, String b) {
+        int[][] d = new int[a.length() + 1][b.length() + 1];
+        for (int i = 0; i <= a.length(); i++) {
+            d[i][0] = i;
+        }
+        for (int j = 0; j <= b.length(); j++) {
+            d[0][j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                d[i][j] = Math.min(Math.min(d[i - 1][j] + 1, d[i][j - 1] + 1), d[i - 1][j - 1] + cost);
+            }
+        }
+        return d[a.length()][b.length()];
+    }
+
+    @Test
+    void distanceWithinLimit() {
+        assertEquals(3, BkTree.distance("kitten", "sitting", 3));
+        assertEquals(3, BkTree.distance("kitten", "sitting", 10));
+        assertEquals(0, BkTree.distance("Gori", "Gori", 0));
+        assertEquals(4, BkTree.distance("", "Gori", 4));
+    }
+
+    @Test
+    void distanceBeyondLimitIsCutOff() {
+        // Stops on a row whose cells all exceed the limit
+        assertEquals(3, BkTree.distance("kitten", "sitting", 2));
+        assertEquals(2, BkTree.distance("kitten", "sitting", 1));
+        assertEquals(1, BkTree.distance("Gori", "Tbilisi", 0));
+        // Stops before any row on the length difference alone
+        assertEquals(3, BkTree.distance("Oni", "Ozurgeti", 2));
+        // The last row may still exceed the limit even though an earlier one did not
+        assertEquals(2, BkTree.distance("ab", "ba", 1));
+    }
+
+    /**
+     * Words whose distance to a node exceeds the bound of the search land in children that are skipped,
+     * so a query far from the root still finds only what lies within the requested distance.
+     */
+    @Test
+    void searchPrunesBeyondBound() {
+        BkTree tree = new BkTree(Arrays.asList("Oni", "Gori", "Ozurgeti", "Tbilisi", "Tsalenjikha", "Oni"));
+        assertEquals(Arrays.asList("Tsalenjikha"), words(tree.search("Tsalendjikha", 1)));
+        assertEquals(Arrays.asList("Gori"), words(tree.search("Goni", 1)));
+        assertEquals(Arrays.asList("Oni"), words(tree.search("Onii", 1)));
+        assertEquals(Collections.emptyList(), words(tree.search("Onii", 0)));
+        assertEquals(Collections.emptyList(), words(new BkTree(Collections.emptyList()).search("Gori", 2)));
+    }
+
+    private static List<String> words(List<BkTree.Match> matches) {
+        return matches.stream().map(match -> match.word).collect(Collectors.toList());
+    }
+
+    @Test
+    void shortNamesAllowOneEdit() {
+        ToponymGazetteer gazetteer = new ToponymGazetteer(Arrays.asList("Gori", "Kareli", "Khashuri"));
+        assertEquals(Arrays.asList("Gori"), gazetteer.suggest("Gxri"));
+        assertEquals(Collections.emptyList(), gazetteer.suggest("Gxxi"));
+        assertEquals(Arrays.asList("Gori"), gazetteer.suggest("Gorri"));
+        assertEquals(Arrays.asList("Kareli"), gazetteer.suggest("Karxxi"));
+        assertEquals(Collections.emptyList(), gazetteer.suggest("Kxrxxi"));
+    }
+
+    @Test
+    void closestSuggestionsFirst() {
+        ToponymGazetteer gazetteer = new ToponymGazetteer(Arrays.asList("Gora", "Gori", "Gordi", "Geri", "Goris"));
+        // Five names within two edits: the two at one edit, then the first at two edits in natural order
+        assertEquals(Arrays.asList("Gordi", "Gori", "Geri"), gazetteer.suggest("Gorri"));
+        // The exact name first, then the names at one edit
+        assertEquals(Arrays.asList("Gori", "Geri", "Gora"), gazetteer.suggest("Gori"));
+        assertEquals(Arrays.asList("Geri", "Gori"), gazetteer.suggest("Gxri"));
+    }
+
+    @Test
+    void suggestionsAreMemoized() {
+        ToponymGazetteer gazetteer = new ToponymGazetteer(Arrays.asList("Gori", "Kareli"));
+        List<String> suggestions = gazetteer.suggest("Gorri");
+        assertSame(suggestions, gazetteer.suggest("Gorri"));
+        // Keyed by the normalized name
+        assertSame(suggestions, gazetteer.suggest(" Gorri\t"));
+    }
+
+    @Test
+    void memoIsBounded() {
+        ToponymGazetteer gazetteer = new ToponymGazetteer(Arrays.asList("Gori", "Kareli"));
+        for (int i = 0; i < ToponymGazetteer.MAX_CACHED_SUGGESTIONS; i++) {
+            gazetteer.suggest("Gori" + i);
+        }
+        assertSame(gazetteer.suggest("Gori1"), gazetteer.suggest("Gori1"));
+        List<String> uncached = gazetteer.suggest("Gorri");
+        assertEquals(Arrays.asList("Gori"), uncached);
+        assertNotSame(uncached, gazetteer.suggest("Gorri"));
+        assertTrue(gazetteer.suggest("Kareli").contains("Kareli"));
+    }
+}
@@ -0,0 +1,141 @@
+package org.openstreetmap.josm.data.validation.tests;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests of {@link BoundaryIndex}.
+ */
+class BoundaryIndexTest {
+
+    /**
+     * Compares the band index against a ray cast over all edges, for random polygons with holes and
+     * enough edges to spread over many bands.
+     */
+    @Test
+    void containsMatchesBruteForce() {
+        Random random = new Random(42);
+        for (int polygon = 0; polygon < 200; polygon++) {
+            List<double[]> edges = new ArrayList<>();
+            double lat = 40 + random.nextDouble() * 5;
+            double lon = 40 + random.nextDouble() * 5;
+            double radius = 0.1 + random.nextDouble() * 2;
+            addStar(edges, random, lat, lon, radius, 3 + random.nextInt(500));
+            if (random.nextBoolean()) {
+                addStar(edges, random, lat, lon, radius * 0.3, 3 + random.nextInt(50));
+            }
+            BoundaryIndex.Builder builder = new BoundaryIndex.Builder();
+            for (double[] edge : edges) {
+                builder.addEdge(edge[0], edge[1], edge[2], edge[3]);
+            }
+            BoundaryIndex index = builder.build();
+
+            for (int i = 0; i < 500; i++) {
+                double pointLat = lat + (random.nextDouble() * 2 - 1) * radius * 1.2;
+                double pointLon = lon + (random.nextDouble() * 2 - 1) * radius * 1.2;
+                assertEquals(rayCast(edges, pointLat, pointLon), index.contains(pointLat, pointLon),
+                        "polygon " + polygon + " at " + pointLat + ", " + pointLon);
+            }
+        }
+    }
+
+    @Test
+    void containsRejectsPointsOutsideBoundingBox() {
+        BoundaryIndex square = ring(0, 0, 0, 1, 1, 1, 1, 0);
+        assertTrue(square.contains(0.5, 0.5));
+        assertFalse(square.contains(-0.5, 0.5));
+        assertFalse(square.contains(0.5, 1.5));
+        assertFalse(square.contains(Double.NaN, 0.5));
+    }
+
+    /**
+     * The centroid of a U shape lies in its notch, the interior point must not.
+     */
+    @Test
+    void interiorPointOfConcavePolygon() {
+        BoundaryIndex u = ring(0, 0, 0, 3, 3, 3, 3, 2, 1, 2, 1, 1, 3, 1, 3, 0);
+        assertFalse(u.contains(1.5, 1.5));
+        assertInside(u, u.interiorPoint());
+    }
+
+    /**
+     * The center of a square with a square hole lies in the hole, the interior point must not.
+     */
+    @Test
+    void interiorPointOfPolygonWithHole() {
+        BoundaryIndex.Builder builder = new BoundaryIndex.Builder();
+        addRing(builder, 0, 0, 0, 4, 4, 4, 4, 0);
+        addRing(builder, 1, 1, 1, 3, 3, 3, 3, 1);
+        BoundaryIndex frame = builder.build();
+        assertFalse(frame.contains(2, 2));
+        assertInside(frame, frame.interiorPoint());
+    }
+
+    @Test
+    void interiorPointOfDegeneratePolygon() {
+        assertNull(ring(0, 0, 0, 1, 0, 2).interiorPoint());
+    }
+
+    @Test
+    void buildWithoutEdges() {
+        assertNull(new BoundaryIndex.Builder().addEdge(1, 1, 1, 1).build());
+    }
+
+    private static void assertInside(BoundaryIndex index, double[] point) {
+        assertNotNull(point);
+        assertTrue(index.contains(point[0], point[1]), point[0] + ", " + point[1]);
+    }
+
+    /**
+     * Adds a closed ring of vertices at increasing angles and random distances from the center, which
+     * gives concave star-shaped polygons.
+     */
+    private static void addStar(List<double[]> edges, Random random, double lat, double lon, double radius,
+            int vertices) {
+        double[] lats = new double[vertices];
+        double[] lons = new double[vertices];
+        for (int i = 0; i < vertices; i++) {
+            double angle = 2 * Math.PI * i / vertices;
+            double distance = radius * (0.5 + random.nextDouble() * 0.5);
+            lats[i] = lat + distance * Math.sin(angle);
+            lons[i] = lon + distance * Math.cos(angle);
+        }
+        for (int i = 0; i < vertices; i++) {
+            int j = (i + 1) % vertices;
+            edges.add(new double[] {lats[i], lons[i], lats[j], lons[j]});
+        }
+    }
+
+    private static boolean rayCast(List<double[]> edges, double lat, double lon) {
+        boolean inside = false;
+        for (double[] edge : edges) {
+            if ((edge[0] > lat) != (edge[2] > lat)
+                    && lon < edge[1] + (lat - edge[0]) / (edge[2] - edge[0]) * (edge[3] - edge[1])) {
+                inside = !inside;
+            }
+        }
+        return inside;
+    }
+
+    private static BoundaryIndex ring(double... latLons) {
+        BoundaryIndex.Builder builder = new BoundaryIndex.Builder();
+        addRing(builder, latLons);
+        return builder.build();
+    }
+
+    private static void addRing(BoundaryIndex.Builder builder, double... latLons) {
+        for (int i = 0; i < latLons.length; i += 2) {
+            int j = (i + 2) % latLons.length;
+            builder.addEdge(latLons[i], latLons[i + 1], latLons[j], latLons[j + 1]);
+        }
+    }
+}
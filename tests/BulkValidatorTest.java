@@ -0,0 +1,144 @@
+package org.openstreetmap.josm.data.validation.tests;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.zip.GZIPOutputStream;
+
+import javax.xml.stream.XMLStreamException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests of {@link BulkValidator}, run against hand-written extracts with square boundaries.
+ */
+class BulkValidatorTest {
+
+    private static final Path EXTRACT = Paths.get("tests", "fixtures", "bulk.osm");
+    private static final Path UNITS_EXTRACT = Paths.get("tests", "fixtures", "units.osm");
+    private static final Path TRUNCATED_EXTRACT = Paths.get("tests", "fixtures", "truncated.osm");
+
+    private static final String CSV = "id,lat,lon,key,value,unit,suggestions\n"
+            + "11,41.6,44.6,name:en,Tbilissi,,Tbilisi\n"
+            + "12,41.25,44.25,name:en,\"Gori, \"\"Old\"\"\",,\n";
+
+    @Test
+    void csv() throws Exception {
+        assertEquals(CSV, run(EXTRACT, BulkValidator.Format.CSV));
+    }
+
+    @Test
+    void geoJson() throws Exception {
+        assertEquals("{\"type\":\"FeatureCollection\",\"features\":[\n"
+                + "{\"type\":\"Feature\",\"geometry\":{\"type\":\"Point\",\"coordinates\":[44.6,41.6]},"
+                + "\"properties\":{\"id\":\"n11\",\"key\":\"name:en\",\"value\":\"Tbilissi\",\"unit\":null,"
+                + "\"suggestions\":[\"Tbilisi\"]}},\n"
+                + "{\"type\":\"Feature\",\"geometry\":{\"type\":\"Point\",\"coordinates\":[44.25,41.25]},"
+                + "\"properties\":{\"id\":\"n12\",\"key\":\"name:en\",\"value\":\"Gori, \\\"Old\\\"\",\"unit\":null,"
+                + "\"suggestions\":[]}}\n"
+                + "]}\n", run(EXTRACT, BulkValidator.Format.GEOJSON));
+    }
+
+    /**
+     * Places are checked against the names of the most specific unit that contains them, see the comments
+     * in units.osm.
+     */
+    @Test
+    void units() throws Exception {
+        assertEquals("id,lat,lon,key,value,unit,suggestions\n"
+                + "11,42.1,44.1,name:ka,ქარელი,Gori Municipality,\n"
+                + "11,42.1,44.1,name:en,Kareli,Gori Municipality,\n"
+                + "13,41.7,44.4,name:en,Batumi,Shida Kartli,\n"
+                + "14,42.35,43.75,name:en,Gori,Kareli Municipality,\n",
+                run(UNITS_EXTRACT, BulkValidator.Format.CSV, GazetteerDataTest.readUnits()));
+    }
+
+    @Test
+    void gzip(@TempDir Path dir) throws Exception {
+        Path compressed = dir.resolve("bulk.osm.gz");
+        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(compressed))) {
+            Files.copy(EXTRACT, out);
+        }
+        assertEquals(CSV, run(compressed, BulkValidator.Format.CSV));
+    }
+
+    @Test
+    void commandLine(@TempDir Path dir) throws Exception {
+        Path output = dir.resolve("findings.csv");
+        assertEquals(0, BulkValidator.execute("--output", output.toString(), EXTRACT.toString()));
+        assertEquals(CSV, new String(Files.readAllBytes(output), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Without the boundary, every place node would be reported, including those outside Georgia.
+     */
+    @Test
+    void extractWithoutBoundaryIsRefused(@TempDir Path dir) throws Exception {
+        Path output = dir.resolve("findings.csv");
+        assertEquals(1, BulkValidator.execute("--output", output.toString(), TRUNCATED_EXTRACT.toString()));
+        assertFalse(Files.exists(output));
+        assertFalse(new BulkValidator(TRUNCATED_EXTRACT, GazetteerData.readBundled()).readBoundaries());
+    }
+
+    @Test
+    void extractWithoutBoundaryOnRequest(@TempDir Path dir) throws Exception {
+        Path output = dir.resolve("findings.csv");
+        assertEquals(0, BulkValidator.execute("--no-boundary", "--output", output.toString(),
+                TRUNCATED_EXTRACT.toString()));
+        assertEquals(CSV + "14,40.5,44.5,name:en,Nowhere,,\n",
+                new String(Files.readAllBytes(output), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void options() {
+        BulkValidator.Options options = BulkValidator.Options.parse(
+                "--format", "GeoJSON", "--output", "out.json", "--gazetteer", "names.txt", "georgia.osm.gz");
+        assertEquals(BulkValidator.Format.GEOJSON, options.format);
+        assertEquals(Paths.get("out.json"), options.output);
+        assertEquals(Paths.get("names.txt"), options.gazetteer);
+        assertEquals(Paths.get("georgia.osm.gz"), options.input);
+        assertFalse(options.noBoundary);
+        assertEquals(BulkValidator.Format.CSV, BulkValidator.Options.parse("georgia.osm").format);
+        assertTrue(BulkValidator.Options.parse("georgia.osm", "--no-boundary").noBoundary);
+    }
+
+    @Test
+    void invalidOptions() {
+        assertInvalid("No extract given");
+        assertInvalid("Missing value for --output", "georgia.osm", "--output");
+        assertInvalid("Missing value for --format", "--format", "--output", "out.csv", "georgia.osm");
+        assertInvalid("Unknown format xml, expected csv or geojson", "--format", "xml", "georgia.osm");
+        assertInvalid("Unknown option --verbose", "--verbose", "georgia.osm");
+        assertInvalid("Only one extract can be checked, got a.osm and b.osm", "a.osm", "b.osm");
+        assertInvalid("PBF is not supported, convert the extract first, e.g. osmium cat -o extract.osm.gz "
+                + "georgia.osm.pbf", "georgia.osm.pbf");
+    }
+
+    private static void assertInvalid(String message, String... args) {
+        assertEquals(message, assertThrows(IllegalArgumentException.class,
+                () -> BulkValidator.Options.parse(args)).getMessage());
+    }
+
+    private static String run(Path extract, BulkValidator.Format format) throws IOException, XMLStreamException {
+        return run(extract, format, GazetteerData.readBundled());
+    }
+
+    private static String run(Path extract, BulkValidator.Format format, GazetteerData gazetteer)
+            throws IOException, XMLStreamException {
+        StringWriter writer = new StringWriter();
+        BulkValidator validator = new BulkValidator(extract, gazetteer);
+        assertTrue(validator.readBoundaries());
+        validator.writeFindings(writer, format);
+        return writer.toString();
+    }
+}
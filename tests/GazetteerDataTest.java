@@ -0,0 +1,76 @@
+package org.openstreetmap.josm.data.validation.tests;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests of {@link GazetteerData}.
+ */
+class GazetteerDataTest {
+
+    static GazetteerData readUnits() throws IOException {
+        try (InputStream in = Files.newInputStream(Paths.get("tests", "fixtures", "units.txt"))) {
+            return GazetteerData.read(in);
+        }
+    }
+
+    @Test
+    void unitSections() throws IOException {
+        GazetteerData data = readUnits();
+        assertEquals("units-test", data.getVersion());
+        assertTrue(data.hasUnits());
+        assertTrue(data.hasUnit("Shida Kartli"));
+        assertTrue(data.hasUnit("Gori Municipality"));
+        assertFalse(data.hasUnit("Adjara"));
+        assertFalse(data.hasUnit(null));
+
+        assertTrue(data.getNamesEn("Gori Municipality").contains("Gori"));
+        assertFalse(data.getNamesEn("Gori Municipality").contains("Kareli"));
+        assertTrue(data.getNamesEn("Shida Kartli").contains("Kareli"));
+        assertTrue(data.getNamesKa("Gori Municipality").contains("გორი"));
+        assertFalse(data.getNamesKa("Gori Municipality").contains("ქარელი"));
+    }
+
+    @Test
+    void unitsWithoutSectionFallBackToNationalNames() throws IOException {
+        GazetteerData data = readUnits();
+        assertSame(data.getNamesKa(), data.getNamesKa(null));
+        assertSame(data.getNamesEn(), data.getNamesEn("Adjara"));
+        // A unit with only an English section still checks Georgian names against the national list
+        assertTrue(data.hasUnit("Kareli Municipality"));
+        assertFalse(data.getNamesEn("Kareli Municipality").contains("Gori"));
+        assertSame(data.getNamesKa(), data.getNamesKa("Kareli Municipality"));
+    }
+
+    @Test
+    void bundledGazetteerHasNationalListsOnly() throws IOException {
+        GazetteerData data = GazetteerData.readBundled();
+        assertFalse(data.hasUnits());
+        assertTrue(data.getNamesKa().contains("თბილისი"));
+        assertTrue(data.getNamesEn().contains("Tbilisi"));
+    }
+
+    @Test
+    void invalidFiles() {
+        assertEquals("Gazetteer must contain [ka] and [en] sections",
+                assertThrows(IOException.class, () -> read("[ka]\nგორი\n")).getMessage());
+        assertEquals("Line 2: name outside of a section",
+                assertThrows(IOException.class, () -> read("version=1\nGori\n[ka]\n[en]\n")).getMessage());
+    }
+
+    private static GazetteerData read(String text) throws IOException {
+        return GazetteerData.read(new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8)));
+    }
+}
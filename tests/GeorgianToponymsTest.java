@@ -0,0 +1,339 @@
+package org.openstreetmap.josm.data.validation.tests;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openstreetmap.josm.data.coor.LatLon;
+import org.openstreetmap.josm.data.osm.DataSet;
+import org.openstreetmap.josm.data.osm.Node;
+import org.openstreetmap.josm.data.osm.OsmPrimitive;
+import org.openstreetmap.josm.data.osm.Relation;
+import org.openstreetmap.josm.data.osm.RelationMember;
+import org.openstreetmap.josm.data.osm.Way;
+import org.openstreetmap.josm.data.osm.WayData;
+import org.openstreetmap.josm.data.validation.TestError;
+import org.openstreetmap.josm.gui.MainApplication;
+import org.openstreetmap.josm.gui.layer.OsmDataLayer;
+import org.openstreetmap.josm.gui.progress.NullProgressMonitor;
+import org.openstreetmap.josm.spi.preferences.Config;
+import org.openstreetmap.josm.spi.preferences.MemoryPreferences;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests of {@link GeorgianToponyms}, run on a dataset with a square Georgia boundary.
+ */
+class GeorgianToponymsTest {
+
+    private final DataSet dataSet = new DataSet();
+    private final GeorgianToponyms test = new GeorgianToponyms();
+
+    @BeforeEach
+    void setUp() {
+        Config.setPreferencesInstance(new MemoryPreferences());
+        addGeorgia(dataSet, addRing(dataSet, 41, 44, 42, 45));
+    }
+
+    @Test
+    void singleSuggestionIsOfferedAsFix() {
+        Node place = addPlace(41.5, 44.5, "Tbilissi");
+        TestError error = single(validate(place));
+        assertEquals(GeorgianToponyms.WRONG_NAME_EN, error.getCode());
+        assertTrue(error.isFixable());
+        error.getFix().executeCommand();
+        assertEquals("Tbilisi", place.get("name:en"));
+        assertTrue(validate(place).isEmpty());
+    }
+
+    @Test
+    void ambiguousOrMissingSuggestionIsNoFix() {
+        TestError ambiguous = single(validate(addPlace(41.5, 44.5, "Gorri")));
+        assertTrue(ambiguous.getDescription().endsWith("Did you mean Gordi, Gori, Geri?"));
+        assertFalse(ambiguous.isFixable());
+        assertNull(ambiguous.getFix());
+
+        TestError unknown = single(validate(addPlace(41.5, 44.5, "Nowhere")));
+        assertFalse(unknown.getDescription().contains("Did you mean"));
+        assertFalse(unknown.isFixable());
+    }
+
+    @Test
+    void batchModeKeepsVisitOrder() {
+        Node first = addPlace(41.5, 44.5, "Nowhere");
+        Node valid = addPlace(41.6, 44.6, "Tbilisi");
+        Node last = addPlace(41.7, 44.7, "Tbilissi");
+        Config.getPref().putBoolean(GeorgianToponyms.PARALLEL_PREF, true);
+        List<TestError> errors = validate(first, valid, last);
+        assertEquals(2, errors.size());
+        assertEquals(Arrays.asList(first), errors.get(0).getPrimitives());
+        assertEquals(Arrays.asList(last), errors.get(1).getPrimitives());
+        assertTrue(errors.get(1).isFixable());
+    }
+
+    @Test
+    void placesOutsideGeorgiaAreNotChecked() {
+        assertTrue(validate(addPlace(40.5, 44.5, "Tbilissi")).isEmpty());
+    }
+
+    @Test
+    void incrementalTagEdit() {
+        Node edited = addPlace(41.5, 44.5, "Tbilisi");
+        Node other = addPlace(41.6, 44.6, "Tbilissi");
+        OsmPrimitive[] places = {edited, other};
+        startIncremental(places);
+
+        edited.put("name:en", "Kutaisy");
+        assertCached(places, other);
+        assertEquals(1, checkedPlaces(places));
+        assertEquals(Arrays.asList(edited, other), primitives(test.getErrors()));
+        assertCached(places, places);
+    }
+
+    @Test
+    void incrementalPlaceMove() {
+        Node moved = addPlace(41.5, 44.5, "Tbilissi");
+        Node other = addPlace(41.6, 44.6, "Kutaisy");
+        OsmPrimitive[] places = {moved, other};
+        startIncremental(places);
+
+        moved.setCoor(new LatLon(40.5, 44.5));
+        assertCached(places, other);
+        assertEquals(1, checkedPlaces(places));
+        assertEquals(Arrays.asList(other), primitives(test.getErrors()));
+    }
+
+    @Test
+    void incrementalAreaNodeMove() {
+        Way area = addArea(41.2, 44.2, 41.4, 44.4, "Gorri");
+        Node other = addPlace(41.6, 44.6, "Tbilissi");
+        OsmPrimitive[] places = {area, other};
+        startIncremental(places);
+
+        // Moving the area out of Georgia takes all of its nodes, each move drops the area again
+        for (Node node : area.getNodes().subList(0, 4)) {
+            node.setCoor(new LatLon(node.lat() - 1, node.lon()));
+            assertCached(places, other);
+        }
+        assertEquals(1, checkedPlaces(places));
+        assertEquals(Arrays.asList(other), primitives(test.getErrors()));
+    }
+
+    @Test
+    void incrementalAdminRelationMemberChange() {
+        Node centre = addPlace(41.5, 44.5, "Tbilissi");
+        Node added = addPlace(41.6, 44.6, "Kutaisy");
+        Node other = addPlace(41.7, 44.7, "Batumy");
+        Relation region = new Relation();
+        region.put("type", "boundary");
+        region.put("boundary", "administrative");
+        region.put("admin_level", "4");
+        region.put("name:en", "Kvemo Kartli");
+        region.addMember(new RelationMember("admin_centre", centre));
+        dataSet.addPrimitive(region);
+        OsmPrimitive[] places = {centre, added, other};
+        startIncremental(places);
+
+        region.addMember(new RelationMember("label", added));
+        assertCached(places, other);
+        assertEquals(2, checkedPlaces(places));
+        assertEquals(3, test.getErrors().size());
+    }
+
+    /**
+     * A boundary relation whose way was still incomplete is completed by a later download, which
+     * replaces the referrer walk by the polygon for every place.
+     */
+    @Test
+    void incrementalBoundaryCompletion() {
+        DataSet downloaded = new DataSet();
+        List<Node> corners = addRing(downloaded, 41, 44, 42, 45).getNodes();
+        Way outer = new Way(100);
+        downloaded.addPrimitive(outer);
+        addGeorgia(downloaded, outer);
+        Node inside = addPlace(downloaded, 41.5, 44.5, "Tbilissi");
+        Node outside = addPlace(downloaded, 40.5, 44.5, "Kutaisy");
+        OsmPrimitive[] places = {inside, outside};
+        startIncremental(places);
+        assertTrue(test.getErrors().isEmpty());
+
+        WayData data = new WayData(100);
+        data.setNodeIds(corners.stream().map(OsmPrimitive::getId).collect(Collectors.toList()));
+        outer.load(data);
+        assertCached(places);
+        assertEquals(2, checkedPlaces(places));
+        assertEquals(Arrays.asList(inside), primitives(test.getErrors()));
+    }
+
+    /**
+     * JOSM folds the events of a large update into a single DATA_CHANGED event, which drops all results.
+     */
+    @Test
+    void incrementalDataChanged() {
+        Node edited = addPlace(41.5, 44.5, "Tbilissi");
+        Node other = addPlace(41.6, 44.6, "Kutaisy");
+        OsmPrimitive[] places = {edited, other};
+        startIncremental(places);
+
+        dataSet.beginUpdate();
+        try {
+            for (int i = 0; i < 40; i++) {
+                edited.put("note", Integer.toString(i));
+            }
+        } finally {
+            dataSet.endUpdate();
+        }
+        assertCached(places);
+        assertEquals(2, checkedPlaces(places));
+        assertEquals(2, test.getErrors().size());
+    }
+
+    @Test
+    void areaPointOutlivesTheRun() {
+        Way area = addArea(41.2, 44.2, 41.4, 44.4, "Gorri");
+        Node other = addPlace(41.6, 44.6, "Tbilissi");
+        assertEquals(2, validate(area, other).size());
+        assertTrue(test.hasAreaPoint(area));
+        assertFalse(test.hasCachedResult(area));
+
+        assertEquals(2, validate(area, other).size());
+        assertTrue(test.hasAreaPoint(area));
+        area.put("name:en", "Gori");
+        assertTrue(test.hasAreaPoint(area));
+        area.getNode(0).setCoor(new LatLon(41.1, 44.1));
+        assertFalse(test.hasAreaPoint(area));
+        assertEquals(Arrays.asList(other), primitives(validate(area, other)));
+        assertTrue(test.hasAreaPoint(area));
+    }
+
+    @Test
+    void closingTheLayerDropsEverything() {
+        OsmDataLayer layer = new OsmDataLayer(dataSet, "georgia", null);
+        MainApplication.getLayerManager().addLayer(layer);
+        Way area = addArea(41.2, 44.2, 41.4, 44.4, "Gorri");
+        Node other = addPlace(41.6, 44.6, "Tbilissi");
+        OsmPrimitive[] places = {area, other};
+        startIncremental(places);
+        assertTrue(test.hasAreaPoint(area));
+
+        MainApplication.getLayerManager().removeLayer(layer);
+        assertCached(places);
+        assertFalse(test.hasAreaPoint(area));
+    }
+
+    @Test
+    void otherDataSetDropsEverything() {
+        Way area = addArea(41.2, 44.2, 41.4, 44.4, "Gorri");
+        Node other = addPlace(41.6, 44.6, "Tbilissi");
+        OsmPrimitive[] places = {area, other};
+        startIncremental(places);
+
+        DataSet second = new DataSet();
+        addGeorgia(second, addRing(second, 41, 44, 42, 45));
+        assertEquals(1, validate(addPlace(second, 41.5, 44.5, "Kutaisy")).size());
+        assertCached(places);
+        assertFalse(test.hasAreaPoint(area));
+    }
+
+    private Way addArea(double south, double west, double north, double east, String nameEn) {
+        Way area = addRing(dataSet, south, west, north, east);
+        area.put("place", "town");
+        area.put("name:en", nameEn);
+        return area;
+    }
+
+    private static Way addRing(DataSet target, double south, double west, double north, double east) {
+        List<Node> ring = new ArrayList<>();
+        for (LatLon corner : Arrays.asList(new LatLon(south, west), new LatLon(south, east),
+                new LatLon(north, east), new LatLon(north, west))) {
+            ring.add(addNode(target, corner));
+        }
+        ring.add(ring.get(0));
+        Way way = new Way();
+        way.setNodes(ring);
+        target.addPrimitive(way);
+        return way;
+    }
+
+    private static void addGeorgia(DataSet target, Way outer) {
+        Relation georgia = new Relation();
+        georgia.put("type", "boundary");
+        georgia.put("boundary", "administrative");
+        georgia.put("admin_level", "2");
+        georgia.put("int_name", "Georgia");
+        georgia.addMember(new RelationMember("outer", outer));
+        target.addPrimitive(georgia);
+    }
+
+    private static Node addNode(DataSet target, LatLon coor) {
+        Node node = new Node(coor);
+        target.addPrimitive(node);
+        return node;
+    }
+
+    private Node addPlace(double lat, double lon, String nameEn) {
+        return addPlace(dataSet, lat, lon, nameEn);
+    }
+
+    private static Node addPlace(DataSet target, double lat, double lon, String nameEn) {
+        Node place = addNode(target, new LatLon(lat, lon));
+        place.put("place", "town");
+        place.put("name:en", nameEn);
+        return place;
+    }
+
+    /**
+     * Runs the test over the given places the way the validator does.
+     */
+    private List<TestError> validate(OsmPrimitive... places) {
+        test.clear();
+        test.startTest(NullProgressMonitor.INSTANCE);
+        for (OsmPrimitive place : places) {
+            place.accept(test);
+        }
+        test.endTest();
+        return test.getErrors();
+    }
+
+    /**
+     * Switches to incremental mode with metrics and runs a first validation that keeps all results.
+     */
+    private void startIncremental(OsmPrimitive... places) {
+        Config.getPref().putBoolean(GeorgianToponyms.INCREMENTAL_PREF, true);
+        Config.getPref().putBoolean(GeorgianToponyms.METRICS_PREF, true);
+        assertEquals(places.length, checkedPlaces(places));
+        assertCached(places, places);
+        assertEquals(0, checkedPlaces(places));
+    }
+
+    /**
+     * Runs the test and returns the number of places it checked instead of taking their cached results.
+     */
+    private long checkedPlaces(OsmPrimitive... places) {
+        long before = ValidatorMetrics.totals().getContainmentChecks();
+        validate(places);
+        return ValidatorMetrics.totals().getContainmentChecks() - before;
+    }
+
+    private void assertCached(OsmPrimitive[] places, OsmPrimitive... cached) {
+        List<OsmPrimitive> expected = Arrays.asList(cached);
+        for (OsmPrimitive place : places) {
+            assertEquals(expected.contains(place), test.hasCachedResult(place), place.get("name:en"));
+        }
+    }
+
+    private static TestError single(List<TestError> errors) {
+        assertEquals(1, errors.size(), errors.toString());
+        return errors.get(0);
+    }
+
+    private static List<OsmPrimitive> primitives(List<TestError> errors) {
+        return errors.stream().flatMap(error -> error.getPrimitives().stream()).collect(Collectors.toList());
+    }
+}
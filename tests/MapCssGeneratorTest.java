@@ -0,0 +1,56 @@
+package org.openstreetmap.josm.data.validation.tests;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Unit tests of {@link MapCssGenerator}.
+ */
+class MapCssGeneratorTest {
+
+    @Test
+    void trieRegexMatchesBundledNames() throws Exception {
+        GazetteerData gazetteer = GazetteerData.readBundled();
+        assertMatchesExactly(gazetteer.getNamesKa().officialNames());
+        assertMatchesExactly(gazetteer.getNamesEn().officialNames());
+    }
+
+    @Test
+    void trieRegexEscapesMetacharacters() {
+        assertMatchesExactly(Arrays.asList("a.b", "a(b)", "a|b", "a-b", "a]", "a^", "a/b", "a\\b", "a", "ab"));
+    }
+
+    @Test
+    void trieRegexOfPrefixes() {
+        assertEquals("(?:a(?:bc?)?)", MapCssGenerator.trieRegex(Arrays.asList("a", "ab", "abc")));
+        assertEquals("(?:a[bc]?)", MapCssGenerator.trieRegex(Arrays.asList("a", "ab", "ac")));
+    }
+
+    /**
+     * Asserts that the trie regex matches every name, and none of the near misses that are not names.
+     */
+    private static void assertMatchesExactly(Collection<String> names) {
+        Pattern pattern = Pattern.compile("^" + MapCssGenerator.trieRegex(names) + "$");
+        Set<String> official = new HashSet<>(names);
+        List<String> probes = new ArrayList<>(names);
+        for (String name : names) {
+            probes.add(name + "ი");
+            probes.add(name + "a");
+            probes.add(name.substring(0, name.length() - 1));
+            probes.add(name.substring(1));
+            probes.add("." + name.substring(1));
+        }
+        for (String probe : probes) {
+            assertEquals(official.contains(probe), pattern.matcher(probe).matches(), probe);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package org.openstreetmap.josm.data.validation.tests;
+
+import org.junit.jupiter.api.Test;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests of the name normalization of {@link ToponymGazetteer}.
+ */
+class ToponymGazetteerTest {
+
+    private static final String GORI = "\u10D2\u10DD\u10E0\u10D8";
+    private static final String GORI_MTAVRULI = "\u1C92\u1C9D\u1CA0\u1C98";
+    private static final String COMPOSED = "Tetri Tskar\u00F3";
+    private static final String DECOMPOSED = "Tetri Tskaro\u0301";
+
+    private final ToponymGazetteer gazetteer = new ToponymGazetteer(Arrays.asList(GORI, "Mtskheta", COMPOSED));
+
+    @Test
+    void decomposedInput() {
+        assertEquals(COMPOSED, ToponymGazetteer.normalize(DECOMPOSED));
+        assertTrue(gazetteer.contains(DECOMPOSED));
+        assertTrue(gazetteer.contains(COMPOSED));
+        assertFalse(gazetteer.contains("Tetri Tskaro"));
+    }
+
+    @Test
+    void decomposedOfficialName() {
+        ToponymGazetteer decomposed = new ToponymGazetteer(Arrays.asList(DECOMPOSED));
+        assertTrue(decomposed.contains(COMPOSED));
+        assertTrue(decomposed.contains(DECOMPOSED));
+        // Suggestions keep the official spelling as listed
+        assertEquals(Arrays.asList(DECOMPOSED), decomposed.suggest(COMPOSED + "s"));
+    }
+
+    @Test
+    void surroundingWhitespace() {
+        assertEquals("Mtskheta", ToponymGazetteer.normalize(" Mtskheta\t"));
+        assertTrue(gazetteer.contains("  " + GORI + " "));
+        assertTrue(gazetteer.contains("\u3000Mtskheta\n"));
+        assertFalse(gazetteer.contains("Mts kheta"));
+    }
+
+    @Test
+    void mtavruliInput() {
+        assertEquals(GORI, ToponymGazetteer.normalize(GORI_MTAVRULI));
+        // Mixed case, as produced by editors that capitalize the first letter only
+        assertEquals(GORI, ToponymGazetteer.normalize(GORI_MTAVRULI.charAt(0) + GORI.substring(1)));
+        assertTrue(gazetteer.contains(GORI_MTAVRULI));
+        assertTrue(gazetteer.contains(" " + GORI_MTAVRULI + " "));
+    }
+
+    @Test
+    void mixedScriptsWithCombiningMark() {
+        // The combining mark sends the whole name through the normalizer, the Mtavruli letters are folded after
+        assertEquals(GORI + " " + COMPOSED, ToponymGazetteer.normalize(GORI_MTAVRULI + " " + DECOMPOSED + " "));
+        assertTrue(gazetteer.contains(GORI_MTAVRULI.substring(0, 2) + GORI.substring(2)));
+        ToponymGazetteer mixed = new ToponymGazetteer(Arrays.asList(GORI + " " + COMPOSED));
+        assertTrue(mixed.contains(GORI_MTAVRULI + " " + DECOMPOSED));
+    }
+
+    @Test
+    void normalizedNamesAreReturnedAsIs() {
+        for (String name : Arrays.asList(GORI, "Mtskheta", COMPOSED, GORI + " " + COMPOSED, "")) {
+            assertSame(name, ToponymGazetteer.normalize(name));
+        }
+    }
+
+    /**
+     * Backs the shortcut of {@code isComposed}: composition never changes text made of characters below
+     * U+0300 and Georgian letters, neither single characters nor any pair of them.
+     */
+    @Test
+    void shortcutRangesAreStableUnderComposition() {
+        StringBuilder chars = new StringBuilder();
+        for (char c = 0; c < '\u0300'; c++) {
+            chars.append(c);
+        }
+        appendRange(chars, '\u10A0', '\u10FF');
+        appendRange(chars, '\u1C90', '\u1CBF');
+        appendRange(chars, '\u2D00', '\u2D2F');
+        StringBuilder pairs = new StringBuilder(chars.length() * chars.length() * 2);
+        for (int i = 0; i < chars.length(); i++) {
+            for (int j = 0; j < chars.length(); j++) {
+                pairs.append(chars.charAt(i)).append(chars.charAt(j));
+            }
+        }
+        String text = pairs.toString();
+        assertEquals(text, Normalizer.normalize(text, Normalizer.Form.NFC));
+    }
+
+    private static void appendRange(StringBuilder chars, char first, char last) {
+        for (char c = first; c <= last; c++) {
+            chars.append(c);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package org.openstreetmap.josm.data.validation.tests;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Spatial index of the admin units that have names of their own in the gazetteer. A uniform grid over
+ * the bounding box of all units lists the units whose bounding box overlaps each cell, most specific
+ * admin level first, so a lookup is one cell probe followed by point-in-polygon tests of the few
+ * candidates. Instances are immutable and thread-safe, and {@link #unitAt(double, double)} does not
+ * allocate.
+ */
+final class AdminUnitIndex {
+
+    private static final int GRID_SIZE = 64;
+
+    private final String[] units;
+    private final BoundaryIndex[] boundaries;
+    private final double minLat;
+    private final double minLon;
+    private final double cellHeight;
+    private final double cellWidth;
+    // Candidates of cell c are units[cellUnits[i]], for cellStart[c] <= i < cellStart[c + 1]
+    private final int[] cellStart;
+    private final int[] cellUnits;
+
+    private AdminUnitIndex(List<Unit> sorted) {
+        int count = sorted.size();
+        units = new String[count];
+        boundaries = new BoundaryIndex[count];
+        double south = Double.POSITIVE_INFINITY;
+        double north = Double.NEGATIVE_INFINITY;
+        double west = Double.POSITIVE_INFINITY;
+        double east = Double.NEGATIVE_INFINITY;
+        for (int u = 0; u < count; u++) {
+            units[u] = sorted.get(u).name;
+            boundaries[u] = sorted.get(u).boundary;
+            south = Math.min(south, boundaries[u].getMinLat());
+            north = Math.max(north, boundaries[u].getMaxLat());
+            west = Math.min(west, boundaries[u].getMinLon());
+            east = Math.max(east, boundaries[u].getMaxLon());
+        }
+        minLat = south;
+        minLon = west;
+        cellHeight = Math.max((north - south) / GRID_SIZE, Double.MIN_NORMAL);
+        cellWidth = Math.max((east - west) / GRID_SIZE, Double.MIN_NORMAL);
+
+        // Counting pass, then fill in unit order, so each cell keeps the most specific units first
+        cellStart = new int[GRID_SIZE * GRID_SIZE + 1];
+        for (BoundaryIndex boundary : boundaries) {
+            forEachCell(boundary, cell -> cellStart[cell + 1]++);
+        }
+        for (int c = 0; c < GRID_SIZE * GRID_SIZE; c++) {
+            cellStart[c + 1] += cellStart[c];
+        }
+        cellUnits = new int[cellStart[GRID_SIZE * GRID_SIZE]];
+        int[] fill = Arrays.copyOf(cellStart, GRID_SIZE * GRID_SIZE);
+        for (int u = 0; u < count; u++) {
+            int unit = u;
+            forEachCell(boundaries[u], cell -> cellUnits[fill[cell]++] = unit);
+        }
+    }
+
+    private interface CellVisitor {
+        void visit(int cell);
+    }
+
+    private void forEachCell(BoundaryIndex boundary, CellVisitor visitor) {
+        int lastRow = row(boundary.getMaxLat());
+        int lastColumn = column(boundary.getMaxLon());
+        for (int r = row(boundary.getMinLat()); r <= lastRow; r++) {
+            for (int c = column(boundary.getMinLon()); c <= lastColumn; c++) {
+                visitor.visit(r * GRID_SIZE + c);
+            }
+        }
+    }
+
+    private int row(double lat) {
+        return Math.min(GRID_SIZE - 1, Math.max(0, (int) ((lat - minLat) / cellHeight)));
+    }
+
+    private int column(double lon) {
+        return Math.min(GRID_SIZE - 1, Math.max(0, (int) ((lon - minLon) / cellWidth)));
+    }
+
+    /**
+     * Returns the most specific unit containing the point, or {@code null} if it lies in none.
+     */
+    String unitAt(double lat, double lon) {
+        // Points outside the grid are clamped onto its border cells, whose polygons reject them
+        int cell = row(lat) * GRID_SIZE + column(lon);
+        for (int i = cellStart[cell]; i < cellStart[cell + 1]; i++) {
+            int u = cellUnits[i];
+            if (boundaries[u].contains(lat, lon)) {
+                return units[u];
+            }
+        }
+        return null;
+    }
+
+    int size() {
+        return units.length;
+    }
+
+    private static final class Unit {
+        final String name;
+        final int adminLevel;
+        final BoundaryIndex boundary;
+
+        Unit(String name, int adminLevel, BoundaryIndex boundary) {
+            this.name = name;
+            this.adminLevel = adminLevel;
+            this.boundary = boundary;
+        }
+    }
+
+    static final class Builder {
+        private final List<Unit> units = new ArrayList<>();
+
+        Builder add(String unit, int adminLevel, BoundaryIndex boundary) {
+            units.add(new Unit(unit, adminLevel, boundary));
+            return this;
+        }
+
+        /**
+         * Returns the index, or {@code null} if no unit was added.
+         */
+        AdminUnitIndex build() {
+            if (units.isEmpty()) {
+                return null;
+            }
+            List<Unit> sorted = new ArrayList<>(units);
+            sorted.sort(Comparator.comparingInt((Unit unit) -> unit.adminLevel).reversed());
+            return new AdminUnitIndex(sorted);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package org.openstreetmap.josm.data.validation.tests;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Burkhard-Keller tree over strings with the Levenshtein metric. A query for all words within
+ * distance {@code k} only descends into children whose edge distance lies in {@code [d - k, d + k]},
+ * so it touches a small fraction of the words for small {@code k}.
+ */
+final class BkTree {
+
+    /** A word found by {@link #search(String, int)} together with its distance to the query. */
+    static final class Match {
+        final String word;
+        final int distance;
+
+        Match(String word, int distance) {
+            this.word = word;
+            this.distance = distance;
+        }
+    }
+
+    private static final class TreeNode {
+        final String word;
+        // Children indexed by their distance to this word, grown on demand
+        TreeNode[] children = new TreeNode[0];
+
+        TreeNode(String word) {
+            this.word = word;
+        }
+    }
+
+    private final TreeNode root;
+
+    BkTree(Collection<String> words) {
+        TreeNode first = null;
+        for (String word : words) {
+            if (first == null) {
+                first = new TreeNode(word);
+            } else {
+                add(first, word);
+            }
+        }
+        this.root = first;
+    }
+
+    private static void add(TreeNode root, String word) {
+        TreeNode node = root;
+        while (true) {
+            int distance = distance(node.word, word, Math.max(node.word.length(), word.length()));
+            if (distance == 0) {
+                return;
+            }
+            if (distance >= node.children.length) {
+                TreeNode[] grown = new TreeNode[distance + 1];
+                System.arraycopy(node.children, 0, grown, 0, node.children.length);
+                node.children = grown;
+            }
+            if (node.children[distance] == null) {
+                node.children[distance] = new TreeNode(word);
+                return;
+            }
+            node = node.children[distance];
+        }
+    }
+
+    /**
+     * Returns all words within {@code maxDistance} of the query, closest first, ties in natural order.
+     */
+    List<Match> search(String query, int maxDistance) {
+        List<Match> matches = new ArrayList<>();
+        if (root == null) {
+            return matches;
+        }
+        Deque<TreeNode> pending = new ArrayDeque<>();
+        pending.push(root);
+        while (!pending.isEmpty()) {
+            TreeNode node = pending.pop();
+            // Exact distances beyond the last child index plus maxDistance cannot select any child
+            int bound = maxDistance + node.children.length;
+            int distance = distance(node.word, query, bound);
+            if (distance <= maxDistance) {
+                matches.add(new Match(node.word, distance));
+            }
+            int to = Math.min(node.children.length - 1, distance + maxDistance);
+            for (int d = Math.max(1, distance - maxDistance); d <= to; d++) {
+                if (node.children[d] != null) {
+                    pending.push(node.children[d]);
+                }
+            }
+        }
+        matches.sort(Comparator.<Match>comparingInt(m -> m.distance).thenComparing(m -> m.word));
+        return matches;
+    }
+
+    /**
+     * Levenshtein distance between two strings. Once every cell of a row exceeds {@code limit}, the
+     * computation stops and returns {@code limit + 1}.
+     */
+    static int distance(String a, String b, int limit) {
+        if (Math.abs(a.length() - b.length()) > limit) {
+            return limit + 1;
+        }
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            char ca = a.charAt(i - 1);
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = ca == b.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (rowMin > limit) {
+                return limit + 1;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return Math.min(previous[b.length()], limit + 1);
+    }
+}
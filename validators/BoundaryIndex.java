@@ -0,0 +1,180 @@
+package org.openstreetmap.josm.data.validation.tests;
+
+import java.util.Arrays;
+
+/**
+ * Prepared polygon for fast point-in-polygon tests. The boundary edges are bucketed into latitude
+ * bands, so a test is a bounding box check followed by an even-odd ray cast over the edges of a
+ * single band. Rings may be given as any set of edges as long as together they form closed rings;
+ * inner rings are handled by the even-odd rule. Instances are immutable and thread-safe, and
+ * {@link #contains(double, double)} does not allocate.
+ */
+final class BoundaryIndex {
+
+    private static final int TARGET_EDGES_PER_BAND = 8;
+    private static final int MAX_BANDS = 4096;
+
+    private final double minLat;
+    private final double maxLat;
+    private final double minLon;
+    private final double maxLon;
+    private final double bandHeight;
+    private final int bandCount;
+    // Edge i of band b is edges[bandEdges[i]], for bandStart[b] <= i < bandStart[b + 1]
+    private final int[] bandStart;
+    private final int[] bandEdges;
+    // Four values per edge: lat1, lon1, lat2, lon2
+    private final double[] edges;
+
+    private BoundaryIndex(double[] edges, int edgeCount) {
+        this.edges = Arrays.copyOf(edges, edgeCount * 4);
+        double south = Double.POSITIVE_INFINITY;
+        double north = Double.NEGATIVE_INFINITY;
+        double west = Double.POSITIVE_INFINITY;
+        double east = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < this.edges.length; i += 2) {
+            south = Math.min(south, this.edges[i]);
+            north = Math.max(north, this.edges[i]);
+            west = Math.min(west, this.edges[i + 1]);
+            east = Math.max(east, this.edges[i + 1]);
+        }
+        this.minLat = south;
+        this.maxLat = north;
+        this.minLon = west;
+        this.maxLon = east;
+        this.bandCount = Math.max(1, Math.min(MAX_BANDS, edgeCount / TARGET_EDGES_PER_BAND));
+        this.bandHeight = Math.max((north - south) / bandCount, Double.MIN_NORMAL);
+
+        // Counting pass, then fill, so the band table is two flat arrays
+        this.bandStart = new int[bandCount + 1];
+        for (int e = 0; e < edgeCount; e++) {
+            for (int b = firstBand(e); b <= lastBand(e); b++) {
+                bandStart[b + 1]++;
+            }
+        }
+        for (int b = 0; b < bandCount; b++) {
+            bandStart[b + 1] += bandStart[b];
+        }
+        this.bandEdges = new int[bandStart[bandCount]];
+        int[] fill = Arrays.copyOf(bandStart, bandCount);
+        for (int e = 0; e < edgeCount; e++) {
+            for (int b = firstBand(e); b <= lastBand(e); b++) {
+                bandEdges[fill[b]++] = e * 4;
+            }
+        }
+    }
+
+    private int firstBand(int edge) {
+        return band(Math.min(edges[edge * 4], edges[edge * 4 + 2]));
+    }
+
+    private int lastBand(int edge) {
+        return band(Math.max(edges[edge * 4], edges[edge * 4 + 2]));
+    }
+
+    private int band(double lat) {
+        return Math.min(bandCount - 1, Math.max(0, (int) ((lat - minLat) / bandHeight)));
+    }
+
+    /**
+     * Tests whether the point lies inside the polygon.
+     */
+    boolean contains(double lat, double lon) {
+        if (lat < minLat || lat > maxLat || lon < minLon || lon > maxLon) {
+            return false;
+        }
+        boolean inside = false;
+        int b = band(lat);
+        for (int i = bandStart[b]; i < bandStart[b + 1]; i++) {
+            int e = bandEdges[i];
+            double lat1 = edges[e];
+            double lon1 = edges[e + 1];
+            double lat2 = edges[e + 2];
+            double lon2 = edges[e + 3];
+            if ((lat1 > lat) != (lat2 > lat)
+                    && lon < lon1 + (lat - lat1) / (lat2 - lat1) * (lon2 - lon1)) {
+                inside = !inside;
+            }
+        }
+        return inside;
+    }
+
+    /**
+     * Returns a point inside the polygon as {@code {lat, lon}}: the middle of the widest inside interval
+     * on the scanline through the middle of the bounding box. Unlike the centroid, it also lies inside
+     * concave polygons and polygons with holes. Returns {@code null} if the polygon has no area.
+     */
+    double[] interiorPoint() {
+        double lat = (minLat + maxLat) / 2;
+        double[] crossings = new double[edgeCount()];
+        int count = 0;
+        for (int e = 0; e < edges.length; e += 4) {
+            double lat1 = edges[e];
+            double lon1 = edges[e + 1];
+            double lat2 = edges[e + 2];
+            double lon2 = edges[e + 3];
+            if ((lat1 > lat) != (lat2 > lat)) {
+                crossings[count++] = lon1 + (lat - lat1) / (lat2 - lat1) * (lon2 - lon1);
+            }
+        }
+        // Even-odd rule: the polygon covers the intervals between crossings 0-1, 2-3, ...
+        Arrays.sort(crossings, 0, count);
+        double[] point = null;
+        double widest = 0;
+        for (int i = 0; i + 1 < count; i += 2) {
+            if (crossings[i + 1] - crossings[i] > widest) {
+                widest = crossings[i + 1] - crossings[i];
+                point = new double[] {lat, (crossings[i] + crossings[i + 1]) / 2};
+            }
+        }
+        return point;
+    }
+
+    int edgeCount() {
+        return edges.length / 4;
+    }
+
+    double getMinLat() {
+        return minLat;
+    }
+
+    double getMaxLat() {
+        return maxLat;
+    }
+
+    double getMinLon() {
+        return minLon;
+    }
+
+    double getMaxLon() {
+        return maxLon;
+    }
+
+    static final class Builder {
+        private double[] edges = new double[256];
+        private int edgeCount;
+
+        Builder addEdge(double lat1, double lon1, double lat2, double lon2) {
+            if (lat1 == lat2 && lon1 == lon2) {
+                return this;
+            }
+            if ((edgeCount + 1) * 4 > edges.length) {
+                edges = Arrays.copyOf(edges, edges.length * 2);
+            }
+            int i = edgeCount * 4;
+            edges[i] = lat1;
+            edges[i + 1] = lon1;
+            edges[i + 2] = lat2;
+            edges[i + 3] = lon2;
+            edgeCount++;
+            return this;
+        }
+
+        /**
+         * Returns the prepared polygon, or {@code null} if no edge was added.
+         */
+        BoundaryIndex build() {
+            return edgeCount == 0 ? null : new BoundaryIndex(edges, edgeCount);
+        }
+    }
+}
@@ -0,0 +1,490 @@
+package org.openstreetmap.josm.data.validation.tests;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * Headless validator for whole-country OSM XML extracts ({@code .osm} or {@code .osm.gz}), running the
+ * same checks as {@link GeorgianToponyms} without JOSM. The file is streamed several times, relying on
+ * the usual node, way, relation order of extracts:
+ * <ol>
+ * <li>relations: member ways of the Georgia boundary relation and of the regions and municipalities
+ * with names of their own in the gazetteer</li>
+ * <li>ways: node references of those ways</li>
+ * <li>nodes: coordinates of the boundary nodes, which are then prepared as a {@link BoundaryIndex}
+ * and an {@link AdminUnitIndex}</li>
+ * <li>nodes: place nodes, checked and reported as they stream by</li>
+ * </ol>
+ * Memory is bounded by the size of the boundaries, not by the number of nodes. Findings are written as
+ * CSV or GeoJSON. An extract without a complete Georgia boundary is refused, since every place node in it
+ * would be checked, unless {@code --no-boundary} asks for exactly that.
+ * <p>
+ * Usage: {@code BulkValidator [--format csv|geojson] [--output file] [--gazetteer file] [--no-boundary]
+ * extract.osm[.gz]}
+ */
+public final class BulkValidator {
+
+    enum Format { CSV, GEOJSON }
+
+    /** One finding: a place node whose name is missing from the gazetteer, or from the names of its unit */
+    private static final class Finding {
+        final long id;
+        final double lat;
+        final double lon;
+        final String key;
+        final String value;
+        final String unit;
+        final List<String> suggestions;
+
+        Finding(long id, double lat, double lon, String key, String value, String unit, List<String> suggestions) {
+            this.id = id;
+            this.lat = lat;
+            this.lon = lon;
+            this.key = key;
+            this.value = value;
+            this.unit = unit;
+            this.suggestions = suggestions;
+        }
+    }
+
+    /** Boundary relation to be prepared: the country, or an admin unit with names of its own */
+    private static final class BoundaryRelation {
+        final String unit;
+        final int adminLevel;
+        final List<Long> wayIds;
+
+        BoundaryRelation(String unit, int adminLevel, List<Long> wayIds) {
+            this.unit = unit;
+            this.adminLevel = adminLevel;
+            this.wayIds = wayIds;
+        }
+    }
+
+    private final Path input;
+    private final GazetteerData gazetteer;
+    // Set by readBoundaries(), both null until then or when the extract has none
+    private BoundaryIndex boundary;
+    private AdminUnitIndex units;
+    private long placeNodes;
+    private long findings;
+
+    BulkValidator(Path input, GazetteerData gazetteer) {
+        this.input = input;
+        this.gazetteer = gazetteer;
+    }
+
+    /** Parsed command line */
+    static final class Options {
+        static final String USAGE = "Usage: BulkValidator [--format csv|geojson] [--output file] [--gazetteer file]"
+                + " [--no-boundary] extract.osm[.gz]";
+
+        Format format = Format.CSV;
+        Path output;
+        Path gazetteer;
+        // Check all place nodes of an extract without a complete Georgia boundary instead of failing
+        boolean noBoundary;
+        Path input;
+
+        /**
+         * Parses the command line.
+         * @throws IllegalArgumentException with a message for the user if the command line is invalid
+         */
+        static Options parse(String... args) {
+            Options options = new Options();
+            for (int i = 0; i < args.length; i++) {
+                String arg = args[i];
+                switch (arg) {
+                    case "--format":
+                        options.format = format(value(args, ++i, arg));
+                        break;
+                    case "--output":
+                        options.output = Paths.get(value(args, ++i, arg));
+                        break;
+                    case "--gazetteer":
+                        options.gazetteer = Paths.get(value(args, ++i, arg));
+                        break;
+                    case "--no-boundary":
+                        options.noBoundary = true;
+                        break;
+                    default:
+                        if (arg.startsWith("--")) {
+                            throw new IllegalArgumentException("Unknown option " + arg);
+                        }
+                        if (options.input != null) {
+                            throw new IllegalArgumentException("Only one extract can be checked, got " + options.input
+                                    + " and " + arg);
+                        }
+                        options.input = Paths.get(arg);
+                }
+            }
+            if (options.input == null) {
+                throw new IllegalArgumentException("No extract given");
+            }
+            if (options.input.toString().endsWith(".pbf")) {
+                throw new IllegalArgumentException("PBF is not supported, convert the extract first, e.g. osmium cat"
+                        + " -o extract.osm.gz " + options.input);
+            }
+            return options;
+        }
+
+        private static Format format(String name) {
+            for (Format format : Format.values()) {
+                if (format.name().equalsIgnoreCase(name)) {
+                    return format;
+                }
+            }
+            throw new IllegalArgumentException("Unknown format " + name + ", expected csv or geojson");
+        }
+
+        private static String value(String[] args, int i, String option) {
+            if (i >= args.length || args[i].startsWith("--")) {
+                throw new IllegalArgumentException("Missing value for " + option);
+            }
+            return args[i];
+        }
+    }
+
+    public static void main(String[] args) throws IOException, XMLStreamException {
+        int status = execute(args);
+        if (status != 0) {
+            System.exit(status);
+        }
+    }
+
+    /**
+     * Runs the command line and returns the exit status: 0 when the extract was checked, 1 when it has no
+     * complete Georgia boundary and {@code --no-boundary} is not given, 2 for an invalid command line.
+     * Nothing is written in the latter two cases.
+     */
+    static int execute(String... args) throws IOException, XMLStreamException {
+        Options options;
+        try {
+            options = Options.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(Options.USAGE);
+            return 2;
+        }
+
+        GazetteerData gazetteer;
+        if (options.gazetteer == null) {
+            gazetteer = GazetteerData.readBundled();
+        } else {
+            try (InputStream in = Files.newInputStream(options.gazetteer)) {
+                gazetteer = GazetteerData.read(in);
+            }
+        }
+
+        long start = System.nanoTime();
+        BulkValidator validator = new BulkValidator(options.input, gazetteer);
+        if (!validator.readBoundaries()) {
+            if (!options.noBoundary) {
+                System.err.println("No complete Georgia boundary relation in " + options.input
+                        + ". Use --no-boundary to check all place nodes of the extract.");
+                return 1;
+            }
+            System.err.println("No complete Georgia boundary relation in " + options.input
+                    + ", checking all place nodes");
+        }
+        OutputStream out = options.output == null ? System.out : Files.newOutputStream(options.output);
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8))) {
+            validator.writeFindings(writer, options.format);
+        }
+        System.err.printf(Locale.ROOT, "Checked %d place nodes, %d findings in %.1f s%n",
+                validator.placeNodes, validator.findings, (System.nanoTime() - start) / 1e9);
+        return 0;
+    }
+
+    /**
+     * Reads the Georgia boundary and the complete admin units with names of their own from the extract.
+     * Returns {@code false} if the Georgia boundary is missing or incomplete, in which case
+     * {@link #writeFindings} checks all place nodes.
+     */
+    boolean readBoundaries() throws IOException, XMLStreamException {
+        AdminUnitIndex.Builder builder = new AdminUnitIndex.Builder();
+        boundary = readBoundaries(builder);
+        units = builder.build();
+        return boundary != null;
+    }
+
+    /**
+     * Checks the place nodes inside the boundaries read by {@link #readBoundaries()} and writes the findings.
+     */
+    void writeFindings(Writer writer, Format format) throws IOException, XMLStreamException {
+        if (format == Format.GEOJSON) {
+            writer.write("{\"type\":\"FeatureCollection\",\"features\":[\n");
+        } else {
+            writer.write("id,lat,lon,key,value,unit,suggestions\n");
+        }
+        checkPlaceNodes(finding -> write(writer, format, finding));
+        if (format == Format.GEOJSON) {
+            writer.write("\n]}\n");
+        }
+    }
+
+    /**
+     * Reads the Georgia boundary, and adds the complete admin units with names of their own to the builder.
+     * Returns {@code null} if the Georgia boundary is missing or incomplete.
+     */
+    private BoundaryIndex readBoundaries(AdminUnitIndex.Builder unitBuilder) throws IOException, XMLStreamException {
+        // Pass 1: member ways of the boundary relations
+        List<BoundaryRelation> relations = new ArrayList<>();
+        BoundaryRelation[] country = new BoundaryRelation[1];
+        Set<Long> wayIds = new HashSet<>();
+        scan("relation", reader -> {
+            List<Long> ways = new ArrayList<>();
+            Map<String, String> tags = new HashMap<>();
+            readChildren(reader, child -> {
+                if ("member".equals(child.getLocalName()) && "way".equals(child.getAttributeValue(null, "type"))) {
+                    String role = child.getAttributeValue(null, "role");
+                    if (role == null || role.isEmpty() || "outer".equals(role) || "inner".equals(role)) {
+                        ways.add(Long.parseLong(child.getAttributeValue(null, "ref")));
+                    }
+                } else if ("tag".equals(child.getLocalName())) {
+                    tags.put(child.getAttributeValue(null, "k"), child.getAttributeValue(null, "v"));
+                }
+            });
+            String unit = ToponymRules.adminUnit(tags.get("boundary"), tags.get("admin_level"), tags.get("name:en"));
+            if (country[0] == null && ToponymRules.isGeorgiaBoundary(tags.get("admin_level"), tags.get("int_name"),
+                    tags.get("ISO3166-1:alpha2"))) {
+                country[0] = new BoundaryRelation(null, 2, ways);
+            } else if (gazetteer.hasUnit(unit)) {
+                relations.add(new BoundaryRelation(unit, Integer.parseInt(tags.get("admin_level")), ways));
+            } else {
+                return;
+            }
+            wayIds.addAll(ways);
+        });
+        if (wayIds.isEmpty()) {
+            return null;
+        }
+
+        // Pass 2: node references of the boundary ways
+        Map<Long, long[]> ways = new HashMap<>();
+        Set<Long> nodeIds = new HashSet<>();
+        scan("way", reader -> {
+            long id = Long.parseLong(reader.getAttributeValue(null, "id"));
+            if (!wayIds.contains(id)) {
+                return;
+            }
+            List<Long> refs = new ArrayList<>();
+            readChildren(reader, child -> {
+                if ("nd".equals(child.getLocalName())) {
+                    refs.add(Long.parseLong(child.getAttributeValue(null, "ref")));
+                }
+            });
+            ways.put(id, refs.stream().mapToLong(Long::longValue).toArray());
+            nodeIds.addAll(refs);
+        });
+
+        // Pass 3: coordinates of the boundary nodes
+        Map<Long, double[]> coordinates = new HashMap<>(nodeIds.size() * 4 / 3 + 1);
+        scan("node", reader -> {
+            long id = Long.parseLong(reader.getAttributeValue(null, "id"));
+            if (nodeIds.contains(id)) {
+                coordinates.put(id, new double[] {Double.parseDouble(reader.getAttributeValue(null, "lat")),
+                        Double.parseDouble(reader.getAttributeValue(null, "lon"))});
+            }
+        });
+
+        for (BoundaryRelation relation : relations) {
+            BoundaryIndex unitBoundary = buildBoundary(relation, ways, coordinates);
+            if (unitBoundary != null) {
+                unitBuilder.add(relation.unit, relation.adminLevel, unitBoundary);
+            }
+        }
+        return country[0] == null ? null : buildBoundary(country[0], ways, coordinates);
+    }
+
+    /**
+     * Prepares the polygon of a relation, or returns {@code null} if a way or node is missing from the
+     * extract or the rings are not closed.
+     */
+    private static BoundaryIndex buildBoundary(BoundaryRelation relation, Map<Long, long[]> ways,
+            Map<Long, double[]> coordinates) {
+        BoundaryIndex.Builder builder = new BoundaryIndex.Builder();
+        Map<Long, Integer> ends = new HashMap<>();
+        for (Long wayId : relation.wayIds) {
+            long[] way = ways.get(wayId);
+            if (way == null || way.length < 2) {
+                return null;
+            }
+            ends.merge(way[0], 1, Integer::sum);
+            ends.merge(way[way.length - 1], 1, Integer::sum);
+            for (int i = 1; i < way.length; i++) {
+                double[] from = coordinates.get(way[i - 1]);
+                double[] to = coordinates.get(way[i]);
+                if (from == null || to == null) {
+                    return null;
+                }
+                builder.addEdge(from[0], from[1], to[0], to[1]);
+            }
+        }
+        // Rings are closed iff every way end point is shared by an even number of way ends
+        return ends.values().stream().allMatch(count -> count % 2 == 0) ? builder.build() : null;
+    }
+
+    private interface FindingSink {
+        void accept(Finding finding) throws IOException;
+    }
+
+    private void checkPlaceNodes(FindingSink sink) throws IOException, XMLStreamException {
+        // Pass 4: place nodes
+        scan("node", reader -> {
+            long id = Long.parseLong(reader.getAttributeValue(null, "id"));
+            double lat = Double.parseDouble(reader.getAttributeValue(null, "lat"));
+            double lon = Double.parseDouble(reader.getAttributeValue(null, "lon"));
+            Map<String, String> tags = new HashMap<>();
+            readChildren(reader, child -> {
+                if ("tag".equals(child.getLocalName())) {
+                    tags.put(child.getAttributeValue(null, "k"), child.getAttributeValue(null, "v"));
+                }
+            });
+            if (!ToponymRules.isCheckedPlace(tags.get("place")) || (boundary != null && !boundary.contains(lat, lon))) {
+                return;
+            }
+            placeNodes++;
+            String unit = units == null ? null : units.unitAt(lat, lon);
+            check(id, lat, lon, "name:ka", tags.get("name:ka"), unit, gazetteer.getNamesKa(unit), sink);
+            check(id, lat, lon, "name:en", tags.get("name:en"), unit, gazetteer.getNamesEn(unit), sink);
+        });
+    }
+
+    private void check(long id, double lat, double lon, String key, String value, String unit,
+            ToponymGazetteer names, FindingSink sink) throws IOException {
+        if (value != null && !names.contains(value)) {
+            findings++;
+            sink.accept(new Finding(id, lat, lon, key, value, unit, names.suggest(value)));
+        }
+    }
+
+    private void write(Writer writer, Format format, Finding finding) throws IOException {
+        if (format == Format.GEOJSON) {
+            if (findings > 1) {
+                writer.write(",\n");
+            }
+            writer.write(String.format(Locale.ROOT,
+                    "{\"type\":\"Feature\",\"geometry\":{\"type\":\"Point\",\"coordinates\":[%s,%s]},"
+                    + "\"properties\":{\"id\":\"n%d\",\"key\":%s,\"value\":%s,\"unit\":%s,\"suggestions\":[%s]}}",
+                    finding.lon, finding.lat, finding.id, json(finding.key), json(finding.value),
+                    finding.unit == null ? "null" : json(finding.unit),
+                    String.join(",", finding.suggestions.stream().map(BulkValidator::json).toArray(String[]::new))));
+        } else {
+            writer.write(String.format(Locale.ROOT, "%d,%s,%s,%s,%s,%s,%s\n", finding.id, finding.lat, finding.lon,
+                    csv(finding.key), csv(finding.value), finding.unit == null ? "" : csv(finding.unit),
+                    csv(String.join("|", finding.suggestions))));
+        }
+    }
+
+    private static String csv(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private static String json(String value) {
+        StringBuilder sb = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                sb.append('\\').append(c);
+            } else if (c < 0x20) {
+                sb.append(String.format(Locale.ROOT, "\\u%04x", (int) c));
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.append('"').toString();
+    }
+
+    private interface ElementHandler {
+        /**
+         * Handles an element positioned on its start tag.
+         */
+        void handle(XMLStreamReader reader) throws IOException, XMLStreamException;
+    }
+
+    private interface ChildHandler {
+        void handle(XMLStreamReader child) throws XMLStreamException;
+    }
+
+    /**
+     * Streams the input once and hands every top-level element with the given name to the handler. Node
+     * and way passes end at the first element that follows their section.
+     */
+    private void scan(String element, ElementHandler handler) throws IOException, XMLStreamException {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.IS_COALESCING, Boolean.FALSE);
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, Boolean.FALSE);
+        try (InputStream in = open()) {
+            XMLStreamReader reader = factory.createXMLStreamReader(in, "UTF-8");
+            try {
+                while (reader.hasNext()) {
+                    if (reader.next() != XMLStreamConstants.START_ELEMENT) {
+                        continue;
+                    }
+                    String name = reader.getLocalName();
+                    if (element.equals(name)) {
+                        handler.handle(reader);
+                    } else if (isPastSection(element, name)) {
+                        return;
+                    }
+                }
+            } finally {
+                reader.close();
+            }
+        }
+    }
+
+    private static boolean isPastSection(String element, String name) {
+        return ("node".equals(element) && ("way".equals(name) || "relation".equals(name)))
+                || ("way".equals(element) && "relation".equals(name));
+    }
+
+    /**
+     * Hands the direct children of the current element to the handler and leaves the reader on the
+     * element's end tag.
+     */
+    private static void readChildren(XMLStreamReader reader, ChildHandler handler) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0 && reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+                if (depth == 2) {
+                    handler.handle(reader);
+                }
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    private InputStream open() throws IOException {
+        InputStream in = new BufferedInputStream(Files.newInputStream(input), 1 << 16);
+        return input.toString().endsWith(".gz") ? new GZIPInputStream(in, 1 << 16) : in;
+    }
+}
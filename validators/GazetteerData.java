@@ -0,0 +1,133 @@
+package org.openstreetmap.josm.data.validation.tests;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Official toponyms read from a versioned gazetteer file, see {@code georgian_toponyms.txt} for the
+ * format. The bundled file can be replaced by an updated NAPR/Geostat list without recompiling.
+ * Besides the national lists, the file may list the names of single admin units (regions and
+ * municipalities), each of which is indexed on its own.
+ */
+final class GazetteerData {
+
+    static final String BUNDLED_RESOURCE = "georgian_toponyms.txt";
+
+    private final String version;
+    private final ToponymGazetteer namesKa;
+    private final ToponymGazetteer namesEn;
+    // Admin unit -> names of that unit
+    private final Map<String, ToponymGazetteer> unitNamesKa;
+    private final Map<String, ToponymGazetteer> unitNamesEn;
+
+    private GazetteerData(String version, ToponymGazetteer namesKa, ToponymGazetteer namesEn,
+            Map<String, ToponymGazetteer> unitNamesKa, Map<String, ToponymGazetteer> unitNamesEn) {
+        this.version = version;
+        this.namesKa = namesKa;
+        this.namesEn = namesEn;
+        this.unitNamesKa = unitNamesKa;
+        this.unitNamesEn = unitNamesEn;
+    }
+
+    /**
+     * Reads the gazetteer bundled next to this class.
+     */
+    static GazetteerData readBundled() throws IOException {
+        try (InputStream in = GazetteerData.class.getResourceAsStream(BUNDLED_RESOURCE)) {
+            if (in == null) {
+                throw new IOException("Missing resource " + BUNDLED_RESOURCE);
+            }
+            return read(in);
+        }
+    }
+
+    /**
+     * Reads a gazetteer file. The stream is not closed.
+     */
+    static GazetteerData read(InputStream in) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        Map<String, List<String>> sections = new HashMap<>();
+        String version = null;
+        List<String> section = null;
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            if (line.startsWith("[") && line.endsWith("]")) {
+                section = sections.computeIfAbsent(line.substring(1, line.length() - 1), k -> new ArrayList<>());
+            } else if (section == null && line.startsWith("version=")) {
+                version = line.substring("version=".length());
+            } else if (section == null) {
+                throw new IOException("Line " + lineNumber + ": name outside of a section");
+            } else {
+                section.add(line);
+            }
+        }
+        if (!sections.containsKey("ka") || !sections.containsKey("en")) {
+            throw new IOException("Gazetteer must contain [ka] and [en] sections");
+        }
+        Map<String, ToponymGazetteer> unitNamesKa = new HashMap<>();
+        Map<String, ToponymGazetteer> unitNamesEn = new HashMap<>();
+        for (Map.Entry<String, List<String>> entry : sections.entrySet()) {
+            String name = entry.getKey();
+            if (name.startsWith("ka:")) {
+                unitNamesKa.put(name.substring(3), new ToponymGazetteer(entry.getValue()));
+            } else if (name.startsWith("en:")) {
+                unitNamesEn.put(name.substring(3), new ToponymGazetteer(entry.getValue()));
+            }
+        }
+        return new GazetteerData(version, new ToponymGazetteer(sections.get("ka")),
+                new ToponymGazetteer(sections.get("en")), unitNamesKa, unitNamesEn);
+    }
+
+    String getVersion() {
+        return version;
+    }
+
+    ToponymGazetteer getNamesKa() {
+        return namesKa;
+    }
+
+    ToponymGazetteer getNamesEn() {
+        return namesEn;
+    }
+
+    /**
+     * Returns the Georgian names of the admin unit, or the national ones if the unit is {@code null}
+     * or has no {@code [ka:unit]} section.
+     */
+    ToponymGazetteer getNamesKa(String unit) {
+        ToponymGazetteer names = unit == null ? null : unitNamesKa.get(unit);
+        return names != null ? names : namesKa;
+    }
+
+    /**
+     * Returns the English names of the admin unit, or the national ones if the unit is {@code null}
+     * or has no {@code [en:unit]} section.
+     */
+    ToponymGazetteer getNamesEn(String unit) {
+        ToponymGazetteer names = unit == null ? null : unitNamesEn.get(unit);
+        return names != null ? names : namesEn;
+    }
+
+    /**
+     * Tests whether the gazetteer lists names of its own for the admin unit.
+     */
+    boolean hasUnit(String unit) {
+        return unit != null && (unitNamesKa.containsKey(unit) || unitNamesEn.containsKey(unit));
+    }
+
+    boolean hasUnits() {
+        return !unitNamesKa.isEmpty() || !unitNamesEn.isEmpty();
+    }
+}
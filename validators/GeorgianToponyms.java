@@ -1,17 +1,44 @@
 package org.openstreetmap.josm.data.validation.tests;
 
+import org.openstreetmap.josm.command.ChangePropertyCommand;
+import org.openstreetmap.josm.data.osm.DataSet;
 import org.openstreetmap.josm.data.osm.Node;
 import org.openstreetmap.josm.data.osm.OsmPrimitive;
 import org.openstreetmap.josm.data.osm.Relation;
+import org.openstreetmap.josm.data.osm.RelationMember;
+import org.openstreetmap.josm.data.osm.Way;
+import org.openstreetmap.josm.data.osm.event.AbstractDatasetChangedEvent;
+import org.openstreetmap.josm.data.osm.event.AbstractDatasetChangedEvent.DatasetEventType;
+import org.openstreetmap.josm.data.osm.event.DataSetListenerAdapter;
+import org.openstreetmap.josm.data.osm.visitor.OsmPrimitiveVisitor;
 import org.openstreetmap.josm.data.validation.Severity;
 import org.openstreetmap.josm.data.validation.Test;
 import org.openstreetmap.josm.data.validation.TestError;
+import org.openstreetmap.josm.gui.MainApplication;
+import org.openstreetmap.josm.gui.layer.LayerManager.LayerAddEvent;
+import org.openstreetmap.josm.gui.layer.LayerManager.LayerChangeListener;
+import org.openstreetmap.josm.gui.layer.LayerManager.LayerOrderChangeEvent;
+import org.openstreetmap.josm.gui.layer.LayerManager.LayerRemoveEvent;
+import org.openstreetmap.josm.gui.layer.OsmDataLayer;
+import org.openstreetmap.josm.gui.progress.ProgressMonitor;
+import org.openstreetmap.josm.io.CachedFile;
+import org.openstreetmap.josm.spi.preferences.Config;
+import org.openstreetmap.josm.tools.Logging;
+import org.openstreetmap.josm.tools.Territories;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
 
 import static org.openstreetmap.josm.tools.I18n.marktr;
 import static org.openstreetmap.josm.tools.I18n.tr;
@@ -20,344 +47,762 @@ public class GeorgianToponyms extends Test {
 
     protected static final int WRONG_NAME_KA = 4300;
     protected static final int WRONG_NAME_EN = 4301;
+    protected static final int WRONG_UNIT_NAME_KA = 4302;
+    protected static final int WRONG_UNIT_NAME_EN = 4303;
 
-    // Data from
-    // https://geonetwork.napr.gov.ge/geonetwork/srv/eng/catalog.search;jsessionid=1E5BD4EC344515648111D65D8073F038#/metadata/be16a17f-96b8-43bf-a25d-bc000cb5d52d
-    // https://data.humdata.org/dataset/cod-ab-geo | geo_supplimentary_gazetteer_2019.xlsx | "administraciuli erTeulebi", National Statistics Office of Georgia
-    // https://data.humdata.org/dataset/cod-ab-geo | GEO_AdminBoundaries_TabularData.xlsx
-    private final List<String> officialGeorgianTownNamesEn = Arrays.asList(
-            "Abasha", "Adigeni", "Akhalkalaki", "Akhaltsikhe", "Akhaltsikhe City", "Akhmeta", "Ambrolauri",
-            "Ambrolauri City", "Aspindza", "Baghdati", "Batumi", "Bolnisi", "Borjomi", "Chiatura", "Chkhorotsku",
-            "Chokhatauri", "Dedoplistskaro", "Dmanisi", "Dusheti", "Gardabani", "Gori", "Gori City", "Gurjaani",
-            "Kareli", "Kaspi", "Kazbegi", "Keda", "Kharagauli", "Khashuri", "Khelvachauri", "Khobi", "Khoni", "Khulo",
-            "Kobuleti", "Kutaisi", "Kvareli", "Lagodekhi", "Lanchkhuti", "Lentekhi", "Marneuli", "Martvili", "Mestia",
-            "Mtskheta", "Mtskheta City", "Ninotsminda", "Oni", "Ozurgeti", "Ozurgeti City", "Poti", "Rustavi",
-            "Sachkhere", "Sagarejo", "Samtredia", "Senaki", "Shuakhevi", "Sighnaghi", "Telavi", "Telavi City",
-            "Terjola", "Tetritskaro", "Tianeti", "Tkibuli", "Tsageri", "Tsalenjikha", "Tsalka", "Tskaltubo", "Vani",
-            "Zestaponi", "Zugdidi", "Zugdidi City", "Zahesi", "Gldani", "Tskneti", "Ponichala", "Kojori", "Didi Lilo",
-            "Gagra", "Gantiadi", "Bichvinta", "Bzipi", "Alakhadzi", "Baghnari", "Kolkhida", "Leselidze", "Lidzavi",
-            "Mekhadiri", "Mikelripshi", "Khashupsa", "Kheivani", "Kholodnaia-Rechka", "Gali", "Achigvara", "Bedia",
-            "Ganakhleba", "Gudava", "Dikhazurga", "Zemo Barghebi", "Tagiloni", "Lekukhona", "Mziuri", "Mukhuri",
-            "Nabakevi", "Otobaia", "Okumi", "Pirveli Gali", "Repo-Shesheleti", "Rechkhi", "Saberio", "Sida", "Pichori",
-            "Kvemo Barghebi", "Ghumurishi", "Chkhortoli", "Tsarche", "Chuburkhinji", "Khumushkuri", "Gudauta",
-            "Akhali Atoni", "Miusera", "Aatsi", "Abgharuki", "Agaraki", "Anukhva", "Achandara", "Akhalsopeli",
-            "Barmishi", "Blaburkhva", "Duripshi", "Zvandripshi", "Kaldakhvara", "Likhni", "Mgudzirkhva", "Mtsara",
-            "Otkhara", "Primorskoe", "Psirtskha", "Kulanurkhva", "Khopi", "Jirkhva", "Gulripshi", "Amtkeli",
-            "Babushara", "Baghmarani", "Dranda", "Vladimirovka", "Lata", "Matchara", "Merkheuli", "Pshapi", "Tsebelda",
-            "Ochamchire", "Agubedia", "Atari-Armianskaia", "Atara", "Aradu", "Arakichi", "Arasadzikhi", "Adziubzha",
-            "Akhali Kindghi", "Beslakhuba", "Gupi", "Tkhina", "Ilori", "Kindghi", "Kutoli", "Labra", "Merkula", "Mokvi",
-            "Otapi", "Okhurei", "Reka", "Tamishi", "Tqvarcheli", "Pokveshi", "Kochara", "Ghvada", "Tchlou", "Jgerda",
-            "Akhalsheni", "Besleti", "Gumista", "Eshera", "Verkhnaia-Eshera", "Tavisupleba", "Kelasuri", "Odishi",
-            "Pskhu", "Shroma", "Azhara", "Dandalo", "Dologani", "Zvare", "Makhuntseti", "Merisi", "Oktomberi",
-            "Pirveli Maisi", "Tskhmorisi", "Tsoniarisi", "Ochkhamuri", "Chakvi", "Alambari", "Atchqvistavi",
-            "Bobokvati", "Gvara", "Dagva", "Zeniti", "Kvirike", "Leghva", "Mukhaestate", "Sachino", "Kakuti",
-            "Chaisubani", "Tsikhisdziri", "Tskavroka", "Tchakhati", "Khala", "Khutsubani", "Baratauli", "Dghvani",
-            "Zamleti", "Oladauri", "Uchamba", "Shubani", "Tskalsakari", "Tchvana", "Acharistskali", "Tkhilnari",
-            "Kirnati", "Matchakhela", "Makhinjauri", "Ortabatumi", "Sarpi", "Peria", "Sharabidzeebi", "Tcharnali",
-            "Agara", "Dekanashvilebi", "Didachara", "Dioknisi", "Vashlovani", "Tkhilvana", "Riketi", "Satsikhuri",
-            "Skhalta", "Pushrukauli", "Ghorjomi", "Khikhadziri", "Aketi", "Atsana", "Gvimbalauri", "Lesa-Tchinati",
-            "Mamati", "Machkhvareti", "Nigvziani", "Nigoiti", "Ninoshvili", "Supsa", "Ghrmaghele", "Shukhuti",
-            "Chibati", "Chochkhati", "Jurukveti", "Laituri", "Naruja", "Nasakirali", "Ureki", "Askana", "Baileti",
-            "Bakhvi", "Bokhvauri", "Gurianta", "Dvabzu", "Vakijvari", "Tkhinvali", "Kontchkati", "Likhauri",
-            "Makvaneti", "Melekeduri", "Meria", "Mtispiri", "Nagomari", "Natanebi", "Silauri", "Shemokmedi",
-            "Tskhemliskhidi", "Dzimiti", "Tchanieti", "Jumati", "Amaghleba", "Bukistsikhe", "Gogolesubani",
-            "Goraberezhouli", "Guturi", "Dablatsikhe", "Didivani", "Erketi", "Vanzomleti", "Zemo Surebi", "Zemokheti",
-            "Zoti", "Kokhnari", "Nabeghlavi", "Satchamiaseri", "Partskhma", "Kvenobani", "Shua Amaghleba",
-            "Shua Surebi", "Khevi", "Khidistavi", "Jvartskhma", "Dimi", "Vartsikhe", "Zegani", "Meore Obcha",
-            "Nergeeti", "Pirveli Obcha", "Rokiti", "Rokhi", "Sakraula", "Persati", "Tsitelkhevi", "Khani", "Bzvani",
-            "Gadidi", "Gora", "Dikhashkho", "Zeda Vani", "Zeindari", "Mtisdziri", "Mukedi", "Salominao", "Salkhino",
-            "Saprasia", "Sulori", "Tobanieri", "Ukhuti", "Pereta", "Kumuri", "Shuamta", "Tsikhesulori", "Dzulukhi",
-            "Boslevi", "Dilikauri", "Zeda Sakara", "Zovreti", "Ilemi", "Kvaliti", "Kldeeti", "Meore Sviri",
-            "Pirveli Sviri", "Rodinauli", "Sanakhshire", "Puti", "Kveda Sazano", "Kveda Sakara", "Shorapani", "Shrosha",
-            "Tskhratskaro", "Dzirula", "Alisubani", "Akhali Terjola", "Bardubani", "Gogni", "Godogani", "Etseri",
-            "Zeda Sazano", "Zeda Simoneti", "Tuzi", "Kvakhtchiri", "Nakhshirghele", "Rupoti", "Siktarva",
-            "Kveda Simoneti", "Ghvankiti", "Chkhari", "Dzevri", "Chognari", "Kulashi", "Bashi", "Gamochinebuli", "Gomi",
-            "Gormaghali", "Didi Jikhaishi", "Ianeti", "Melauri", "Opeti", "Sajavakho", "Tolebi", "Ghaniri", "Argveti",
-            "Gorisi", "Korbouli", "Merjevi", "Sairkhe", "Sareki", "Koreti", "Chikha", "Tskhomareti", "Tchala",
-            "Tchalovani", "Jalaurta", "Gurna", "Kursebi", "Mukhura", "Orpiri", "Satsire", "Sochkheti", "Tsutskhvati",
-            "Khresili", "Jvarisa", "Geguti", "Gvishtibi", "Gumbra", "Dghnorisa", "Maghlaki", "Mekvena", "Mukhiani",
-            "Opurchkheti", "Opshkviti", "Patriketi", "Rioni", "Sakulia", "Partskhanaqanevi", "Kvitiri", "Tskhunkuri",
-            "Tsqaltubo", "Gezruli", "Vatchevi", "Zodi", "Itkhvisi", "Katskhi", "Mandaeti", "Nigozeti", "Perevisa",
-            "Rgani", "Sarkveletubani", "Sveri", "Kvatsikhe", "Tsirkvali", "Khvashiti", "Khreiti", "Bazaleti", "Boriti",
-            "Vardzia", "Vakhani", "Kitskhi", "Lashe", "Leghvani", "Moliti", "Nadaburi", "Sargveshi", "Saghandzile",
-            "Partskhnali", "Ghoresha", "Tsipa", "Tskalaporeti", "Khidari", "Khunevi", "Gordi", "Gochajikhaishi", "Gubi",
-            "Dedalauri", "Ivandidi", "Kinchkha", "Kukhi", "Matkhoji", "Nakhakhulevi", "Kutiri", "Dzedzileti", "Duisi",
-            "Zemo Alvani", "Zemo Khodasheni", "Tusheti (Omalo)", "Kasristskali", "Matani", "Maghnaari", "Ozhio",
-            "Sakobiano", "Kvemo Alvani", "Kistauri", "Shakhvetila", "Khalatsani", "Joqolo", "Arashenda", "Akhasheni",
-            "Bakurtsikhe", "Vazisubani", "Vachnadziani", "Velistsikhe", "Vejini", "Zemo Katchreti", "Kalauri",
-            "Kardenakhi", "Katchreti", "Kolagi", "Melaani", "Mukuzani", "Naniani", "Shashiani", "Chalaubani",
-            "Chumlaki", "Dzirkoki", "Tchandari", "Tcheremi", "Jimiti", "Arboshiki", "Arkhiloskalo", "Gamarjveba",
-            "Zemo Machkhaani", "Zemo Kedi", "Mirzaani", "Ozaani", "Sabatlo", "Samtatskaro", "Samreklo", "Pirosmani",
-            "Kvemo Kedi", "Khornabuji", "Akura", "Artana", "Busheti", "Gulgula", "Vanta", "Vardisubani", "Tetritsklebi",
-            "Ikalto", "Kisiskhevi", "Kondoli", "Kurdghelauri", "Laliskuri", "Lapankuri", "Nasamkhrali", "Napareuli",
-            "Ruispiri", "Saniore", "Pshaveli", "Kvemo Khodasheni", "Karajala", "Shalauri", "Tsinandali", "Areshperani",
-            "Apeni", "Baisubani", "Giorgeti", "Kabali", "Kartubani", "Leliani", "Matsimi", "Ninigori", "Pona",
-            "Tsodniskari", "Tchiauri", "Badiauri", "Giorgitsminda", "Gombori", "Didi Chailuri", "Duzagrama",
-            "Verkhviani", "Tokhliauri", "Tulari", "Iormughanlo", "Kakabeti", "Kotchbaani", "Lambalo", "Manavi",
-            "Mzisguli", "Patara Chailuri", "Patardzeuli", "Sataple", "Udabno", "Ujarma", "Kandaura", "Shibliani",
-            "Tskarostavi", "Khashmi", "Tsnori", "Anaga", "Bodbe", "Bodbiskhevi", "Vakiri", "Iliatsminda", "Magharo",
-            "Nukriani", "Sakobo", "Tibaani", "Kvemo Machkhaani", "Dzveli Anaga", "Jugaani", "Balghojiani", "Gavazi",
-            "Gremi", "Eniseli", "Kutchatani", "Sabue", "Shilda", "Tchikaani", "Akhalgori", "Boli", "Gdu", "Zakhori",
-            "Korinta", "Largvisi", "Salbieri", "Karchokhi", "Tskhradzma", "Tsinagari", "Zhinvali", "Pasanauri",
-            "Ananuri", "Gremiskhevi", "Gudamakari", "Lapanaantkari", "Magharoskari", "Mchadijvari", "Ukanpshavi",
-            "Kvesheti", "Shatili", "Tchartali", "Tchonkadze", "Tchoporti", "Khevsureti", "Kheoba", "Sioni", "Artani",
-            "Zaridzeebi", "Nakalakari", "Zhebota", "Simoniantkhevi", "Tushurebi", "Ghulelebi", "Chekuraantgori",
-            "Khevsurtsopeli", "Aghdgomliantkari", "Galavani", "Vaziani", "Lisi", "Misaktsieli", "Mukhrani", "Nichbisi",
-            "Saguramo", "Ksani", "Ksovrisi", "Tskhvarichamia", "Dzalisi", "Dzegvi", "Tserovani", "Tsilkani",
-            "Stepantsminda", "Goristsikhe", "Gudauri", "Kobi", "Sno", "Bugeuli", "Velevi", "Znakva", "Itsa", "Likheti",
-            "Namanevi", "Nikortsminda", "Sadmeli", "Skhvava", "Ghadishi", "Tsakhi", "Tsesi", "Tchiaghele", "Tchrebalo",
-            "Tchkvishi", "Khvanchkara", "Khodikari", "Khotevi", "Zhakhunderi", "Rtskhmeluri", "Chikhareshi", "Choluri",
-            "Tsani", "Kheledi", "Khopuri", "Glola", "Kvashkhieti", "Kirovi", "Komandeli", "Mravaldzali", "Pipileti",
-            "Sakao", "Sori", "Utsera", "Parakheti", "Ghari", "Ghebi", "Sheubani", "Shkmeri", "Chasavali", "Tskhmori",
-            "Tsedisi", "Tchiora", "Alpana", "Aghvi", "Zubi", "Lailashi", "Lasuriashi", "Lukhvano", "Nakuraleshi",
-            "Orbeli", "Okureshi", "Sairme", "Spatagori", "Tvishi", "Usakhelo", "Kveda Tsageri", "Ghvirishi", "Chkumi",
-            "Chkhuteli", "Tsiperchi", "Gezati", "Zanati", "Ketilari", "Marani", "Naesakao", "Norio", "Ontopo",
-            "Samikao", "Sepieti", "Sujuna", "Tkviri", "Kolobani", "Dzveli Abasha", "Tskemi", "Abastumani", "Anaklia",
-            "Akhali Abastumani", "Akhalkakhati", "Ganarjiis Mukhuri", "Grigolishi", "Darcheli", "Didi Nedzi", "Ergeta",
-            "Ingiri", "Kakhati", "Koki", "Kortskheli", "Narazeni", "Orsantia", "Orulu", "Rike", "Rukhi", "Urta",
-            "Kulishkari", "Shamgona", "Chkhoria", "Tsaishi", "Tchankviji", "Tchitatsqari", "Tchkaduashi", "Jikhaskari",
-            "Abedati", "Bandza", "Gatchedili", "Gurdzemi", "Didi Chkoni", "Doshake", "Vedidkari", "Tamakoni",
-            "Inchkhuri", "Kitsia", "Kurzu", "Lekhaindravo", "Nagvazavo", "Nakhunavo", "Najakhavo", "Onoghia",
-            "Sergieti", "Taleri", "Khuntsi", "Becho", "Idliani", "Ipari", "Kala", "Latali", "Lakhamula", "Lenjeri",
-            "Mulakhi", "Nakra", "Ushguli", "Pari", "Tskhumari", "Tsvirmi", "Tchuberi", "Khaishi", "Gejeti", "Eki",
-            "Zana", "Zemo Tchaladidi", "Teklati", "Ledzadzame", "Menji", "Nosiri", "Nokalakevi", "Ushapati", "Potskho",
-            "Dzveli Senaki", "Khorshi", "Akhuti", "Zumi", "Taia", "Kirtskhi", "Lesitchine", "Letsurtsume", "Nakiani",
-            "Napichkhovo", "Kveda Chkhorotsqu", "Tchogha", "Khabume", "Jvari", "Lia", "Medani", "Mikava", "Muzhava",
-            "Nakipu", "Obuji", "Pakhulani", "Chkvaleri", "Tchale", "Jgali", "Akhalkhibula", "Bia", "Guripuli",
-            "Zemo Kvaloni", "Torsa-Dghvaba", "Nojikhevi", "Patara Poti", "Pirveli Khorga", "Sagvichio", "Sajijao",
-            "Kariata", "Kvemo Kvaloni", "Kulevi", "Shavghele", "Shua Khorgi", "Dzveli Khibula", "Tchaladidi",
-            "Khamiskuri", "Kheta", "Arali", "Benara", "Bolajuri", "Gorguli", "Dertseli", "Varkhani", "Zanavi", "Zarzma",
-            "Zedubani", "Lelovani", "Mlashe", "Mokhe", "Ude", "Pkhero", "Chorchani", "Tsakhani", "Tchetchla",
-            "Khevasheni", "Atskvita", "Damala", "Vargavi", "Idumala", "Nakalakevi", "Ota", "Orgora", "Toloshi",
-            "Dzveli", "Khizabavra", "Azavreti", "Alastani", "Aragva", "Baraleti", "Gogasheni", "Diliska", "Vachiani",
-            "Zakvi", "Kartikami", "Kartsakhi", "Kotelia", "Kotchio", "Kumurdo", "Okami", "Ptena", "Sulda", "Turtskhi",
-            "Chunchkha", "Khaveti", "Khando", "Khospio", "Vale", "Andriatsminda", "Atskuri", "Eliatsminda", "Klde",
-            "Minadze", "Pamaji", "Sadzeli", "Sviri", "Skhvilisi", "Uraveli", "Persa", "Tskaltbila", "Tskruti",
-            "Akhaldaba", "Bakuriani", "Tsaghveri", "Balabta", "Gverdisubani", "Gujareti", "Dviri", "Tabatskuri",
-            "Tadzrisi", "Tba", "Kvibisi", "Tsikhisjvari", "Gandza", "Gorelovka", "Gondrio", "Eshtia", "Satkhe",
-            "Tambovka", "Phoka", "Khanchali", "Jigrasheni", "Tamarisi", "Kazreti", "Akaurta", "Darbazi", "Disveli",
-            "Mamkhuti", "Nakhiduri", "Ratevani", "Tatchisubani", "Talaveri", "Tandzia", "Kvemo Bolnisi", "Kveshi",
-            "Aghtaklia", "Akhali Samgori", "Vakhtangisi", "Teleti", "Kalinino", "Krtsanisi", "Kumisi", "Lemshveniera",
-            "Martkopi", "Nazarlo", "Sartichala", "Kesalo", "Karataklia", "Karajalari", "Jandara", "Amamlo", "Gomareti",
-            "Guguti", "Didi Dmanisi", "Irganchai", "Ipnari", "Kamarlo", "Mashavera", "Orozmani", "Sakire", "Sarkineti",
-            "Karabulakhi", "Kizilkilisa", "Manglisi", "Asureti", "Borbalo", "Golteti", "Dagheti", "Durnuki", "Toneti",
-            "Iraga", "Kldeisi", "Koda", "Marabda", "Orbeti", "Chkhikvta", "Tsintsqaro", "Tchivtchavi", "Jorjiashvili",
-            "Algeti", "Akhkerpi", "Damia-Geurarkhi", "Kasumlo", "Kapanachkhi", "Kachagani", "Opreti", "Sadakhlo",
-            "Kutliari", "Kizil-Ajlo", "Kulari", "Shaumiani", "Shulaveri", "Tserakvi", "Tsereteli", "Khojorni",
-            "Bediani", "Trialeti", "Avranlo", "Aiazmi", "Artsivani", "Arjevan-Sarvani", "Ashkala", "Bareti", "Berta",
-            "Beshtasheni", "Burnasheti", "Gumbati", "Darakovi", "Dashbashi", "Tejisi", "Kaburi", "Kizil-Kilisa",
-            "Kokhta", "Kushi", "Nardevani", "Ozni", "Rekha", "Sameba", "Sakdarioni", "Chivt-Kilisa", "Tsintskaro",
-            "Khachkovi", "Ateni", "Akhalubani", "Berbuki", "Boshuri", "Ditsi", "Variani", "Zeghduleti", "Karaleti",
-            "Mereti", "Mejvriskhevi", "Mghebriani", "Nikozi", "Sakavre", "Skra", "Tiniskhidi", "Tirdznisi", "Tkviavi",
-            "Kvakhvreli", "Shavshvebi", "Shindisi", "Dzevera", "Aghaiani", "Doesi", "Zemo Khandaki", "Teliani",
-            "Kavtiskhevi", "Kodistskaro", "Lamiskana", "Metekhi", "Samtavisi", "Kvemo Gomi", "Kvemo Tchala",
-            "Tsinarekhi", "Khovle", "Abisi", "Avlevi", "Bebnisi", "Breti", "Bredza", "Giganti", "Dvani", "Dirbi",
-            "Zemo Khvedureti", "Zghuderi", "Kekhijvari", "Mokhisi", "Ruisi", "Urbnisi", "Ptsa", "Surami", "Ali",
-            "Osiauri", "Plevi", "Kvishkheti", "Tsotskhnara", "Tskhramukha", "Tsaghvli", "Tsromi", "Khalebi", "Khtsisi",
-            "Artsevi", "Beloti", "Berula", "Bikari", "Geri", "Vanati", "Ksuisi", "Ghromi", "Kornisi", "Avnevi", "Balta",
-            "Teregvani", "Tighva", "Dzvileti", "Kemerti", "Kurta", "Dzari", "Khetagurovo", "Java", "Kvaisi", "Edisa",
-            "Vaneli", "Mskhlebi", "Roka", "Keshelta", "Kemulta", "Tsona", "Khvtse", "Bakhmaro", "Tbilisi", "Sokhumi",
-            "Tskhinvali", "Tkvarcheli", "Khramhesi");
-    private final List<String> officialGeorgianTownNamesKa = Arrays.asList(
-            "ზაჰესი", "გლდანი", "წყნეთი", "ფონიჭალა", "კოჯორი", "დიდი ლილო", "გაგრა", "განთიადი", "ბიჭვინთა", "ბზიფის",
-            "ალახაძი", "ბაღნარის", "კოლხიდის", "ლესელიძის", "ლიძავის", "მეხადირის", "მიქელრიფშის", "ხაშუფშის",
-            "ხეივნის", "ხოლოდნაია რეჩკას", "გალი", "აჩიგვარას", "ბედიის", "განახლების", "გუდავას", "დიხაზურგის",
-            "ზემო ბარღების", "თაგილონის", "ლეკუხონის", "მზიურის", "მუხურის", "ნაბაკევის", "ოტობაიას", "ოქუმის",
-            "პირველი გალის", "რეფო-შეშელეთის", "რეჩხის", "საბერიოს", "სიდა", "ფიჩორის", "ქვემო ბარღების", "ღუმურიშის",
-            "ჩხორთოლის", "წარჩის", "ჭუბურხინჯის", "ხუმუშკურის", "გუდაუთის", "ახალი ათონის", "მიუსერა", "ააცის",
-            "აბღარუკის", "აგარაკის", "ანუხვის", "აჭანდარის", "ახალსოფლის", "ბარმიშის", "ბლაბურხვის", "დურიფშის",
-            "ზვანდრიფშის", "კალდახვარის", "ლიხნის", "მგუძირხვის", "მწარის", "ოთხარის", "პრიმორსკოეს", "ფსირცხის",
-            "ყულანურხვის", "ხოფის", "ჯირხვის", "გულრიფში", "ამტყელის", "ბაბუშარას", "ბაღმარანის", "დრანდის",
-            "ვლადიმიროვკის", "ლათის", "მაჭარის", "მერხეულის", "ფშაფის", "წებელდის", "ოჩამჩირეს", "აგუბედიის",
-            "ატარი-არმიანსკაიას", "ათარას", "არადუს", "არაკიჩის", "არასაძიხის", "აძიუბჟის", "ახალი კინდღის",
-            "ბესლახუბის", "გუფის", "თხინის", "ილორის", "კინდღის", "კუტოლის", "ლაბრა", "მერკულის", "მოქვის", "ოტაფის",
-            "ოხურეის", "რეკის", "ტამიშის", "ტყვარჩელის", "ფოქვეშის", "ქოჩარის", "ღვადის", "ჭლოუს", "ჯგერდის",
-            "ახალშენის", "ბესლეთის", "გუმისთის", "ეშერის", "ვერხნიაია ეშერის", "თავისუფლების", "კელასურის", "ოდიშის",
-            "ფსხუს", "შრომის", "აჟარის", "ქედა", "ქედის", "დანდალოს", "დოლოგანის", "ზვარეს", "მახუნცეთის", "მერისის",
-            "ოქტომბრის", "პირველი მაისის", "ცხმორისის", "წონიარისის", "ქობულეთი", "ოჩხამური", "ჩაქვის", "ალამბარის",
-            "აჭყვისთავის", "ბობოყვათის", "გვარას", "დაგვა", "ზენიტი", "კვირიკეს", "ლეღვას", "მუხაესტატე", "საჩინოს",
-            "ქაქუთის", "ქობულეთის", "ჩაისუბანი", "ციხისძირი", "წყავროკა", "ჭახათი", "ხალის", "ხუცუბნის", "შუახევი",
-            "შუახევის", "ბარათაულის", "დღვანის", "ზამლეთის", "ოლადაურის", "უჩამბის", "შუბანის", "წყალსაყრის", "ჭვანის",
-            "აჭარისწყლის", "თხილნარის", "კირნათის", "მაჭახელას", "მახინჯაურის", "ორთაბათუმის", "სარფის", "ფერიის",
-            "შარაბიძის", "ჭარნალის", "ხულოს", "აგარის", "დეკანაშვილების", "დიდაჭარის", "დიოკნისის", "ვაშლოვანის",
-            "თხილვანის", "რიყეთის", "საციხურის", "სხალთის", "ფუშრუკაულის", "ღორჯომის", "ხიხაძირის", "ლანჩხუთი",
-            "აკეთის", "აცანის", "გვიმბალაურის", "ლესა-ჭინათის", "მამათის", "მაცხვარეთის", "ნიგვზიანის", "ნიგოითის",
-            "ნინოშვილის", "სუფსის", "ღრმაღელის", "შუხუთის", "ჩიბათის", "ჩოჩხათის", "ჯურუყვეთის", "ლაითური", "ნარუჯა",
-            "ნასაკირალი", "ურეკი", "ასკანის", "ბაილეთის", "ბახვის", "ბოხვაურის", "გურიანთის", "ძვაბზუს", "ვაკიჯვრის",
-            "თხინვალის", "კონჭკათის", "ლიხაურის", "მაკვანეთის", "მელექედური", "მერიის", "მთისპირის", "ნაგომრის",
-            "ნატანების", "ოზურგეთი", "სილაური", "შემოქმედის", "ცხმელისხიდის", "ძიმითის", "ჭანიეთის", "ჯუმათის",
-            "ჩოხატაური", "ამაღლების", "ბუკისციხის", "გოგოლესუბანი", "გორაბერეჟოული", "გუთური", "დაბლაციხის",
-            "დიდივანის", "ერკეთის", "ვანზომლეთის", "ზემო სურების", "ზემოხეთის", "ზოტი", "კოხნარი", "ნაბეღლავის",
-            "საჭამიასერის", "ფარცხმის", "ქვენობნის", "შუა ამაღლება", "შუა სურები", "ხევის", "ხიდისთავის", "ჯვარცხმის",
-            "ბაღდათი", "დიმის", "ვარციხე", "ზეგნის", "მეორე ობჩა", "ნერგეეთის", "პირველი ობჩა", "როკითის", "როხი",
-            "საკრაულა", "ფერსათის", "წითელხევი", "ხანის", "ვანი", "ბზვანის", "გადიდის", "გორის", "დიხაშხოს",
-            "ზედა ვანის", "ზეინდრის", "მთისძირის", "მუქედის", "სალომინაოს", "სალხინოს", "საფრასიის", "სულორი",
-            "ტობანიერის", "უხუთის", "ფერეთის", "ყუმურის", "შუამთის", "ციხესულორი", "ძულუხი", "ზესტაფონი", "ბოსლევის",
-            "დილიკაურის", "ზედა საქარის", "ზოვრეთი", "ილემის", "კვალითის", "კლდეეთის", "მეორე სვირის", "პირველი სვირი",
-            "როდინაულის", "სანახშირის", "ფუთი", "ქვედა საზანოს", "ქვედა საქარის", "შორაპანი", "შროშის", "ცხრაწყაროს",
-            "ძირულის", "თერჯოლა", "ალისუბნის", "ახალი თერჯოლის", "ბარდუბნის", "გოგნის", "გოდოგანის", "ეწერის",
-            "ზედა საზანოს", "ზედა სიმონეთის", "ტუზის", "კვახჭირის", "ნახშირღელის", "რუფოთის", "სიქთარვის",
-            "ქვედა სიმონეთი", "ღვანკითი", "ჩხარის", "ძევრის", "ჭოგნარი", "სამტრედია", "კულაში", "ბაში", "გამოჩინებული",
-            "გომის", "გორმაღალი", "დიდი ჯიხაიში", "იანეთი", "მელაურის", "ოფეთის", "საჯავახოს", "ტოლების", "ღანირის",
-            "საჩხერე", "არგვეთის", "გორისის", "კორბოულის", "მერჯევის", "საირხის", "სარეკის", "ქორეთი", "ჩიხის",
-            "ცხომარეთის", "ჭალის", "ჭალოვანის", "ჯალაურთის", "ტყიბული", "გურნის", "კურსების", "მუხურა", "ორპირის",
-            "საწირის", "სოჩხეთის", "ცუცხვათი", "ხრესილის", "ჯვარისას", "წყალტუბო", "გეგუთი", "გვიშტიბის", "გუმბრის",
-            "დღნორისას", "მაღლაკის", "მექვენის", "მუხიანის", "ოფურჩხეთის", "ოფშკვითი", "პატრიკეთის", "რიონის",
-            "საყულია", "ფარცხანაყანევი", "ქვიტირის", "ცხუნკურის", "წყალტუბოს", "ჭიათურა", "გეზრული", "ვაჭევის", "ზოდის",
-            "ითხვისის", "კაცხის", "მანდაეთის", "ნიგოზეთის", "პერევისას", "რგანი", "სარქველთუბნის", "სვერის", "ქვაციხის",
-            "წირქვალის", "ხვაშითის", "ხრეითი", "ხარაგაული", "ბაზალეთის", "ბორითის", "ვარძია", "ვახანის", "კიცხის",
-            "ლაშეს", "ლეღვანის", "მოლითის", "ნადაბურის", "სარგვეშის", "საღანძილის", "ფარცხნალის", "ღორეშა", "წიფის",
-            "წყალაფორეთის", "ხიდარი", "ხუნევის", "ხონი", "გორდის", "გოჩაჯიხაიში", "გუბის", "დედალაურის", "ივანდიდი",
-            "კინჩხის", "კუხის", "მათხოჯი", "ნახახულევის", "ქუტირის", "ძეძილეთის", "ახმეტა", "ახმეტის", "დუისის",
-            "ზემო ალვანის", "ზემო ხოდაშენის", "თუშეთის (ომალო)", "კასრისწყალი", "მატანი", "მაღრაანის", "ოჟიოს",
-            "საქობიანოს", "ქვემო ალვანის", "ქისტაურის", "შახვეთილას", "ხალაწანის", "ჯოყოლოს", "გურჯაანი", "არაშენდის",
-            "ახაშენი", "ბაკურციხე", "ვაზისუბანი", "თემი", "ველისციხე", "ვეჯინი", "ზემო კაჭრეთი", "კალაური", "კარდენახი",
-            "კაჭრეთი", "კოლაგი", "მელაანი", "მუკუზანის", "ნანიანი", "შაშიანი", "ჩალაუბანი", "ჩუმლაყის", "ძირკოკი",
-            "ჭანდარი", "ჭერემი", "ჯიმითი", "დედოფლისწყარო", "არბოშიკი", "არხილოსკალო", "გამარჯვება", "ზემო მაჩხაანი",
-            "ზემო ქედი", "მირზაანი", "ოზაანის", "საბათლო", "სამთაწყარო", "სამრეკლო", "ფიროსმანი", "ქვემო ქედი",
-            "ხორნაბუჯის", "აკურა", "ართანა", "ბუშეთი", "გულგულა", "ვანთა", "ვარდისუბანი", "თეთრიწყლები", "იყალთო",
-            "კისისხევი", "კონდოლი", "კურდღელაური", "ლალისყური", "ლაფანყური", "ნასამხრალი", "ნაფარეული", "რუისპირის",
-            "სანიორეს", "ფშაველის", "ქვემო ხოდაშენი", "ყარაჯალა", "სალაური", "წინანდალი", "ლაგოდეხი", "არაშფერანის",
-            "აფენის", "ბაისუბნის", "გიორგეთის", "ვარდისუბნის", "კაბალის", "კართუბნის", "ლელიანის", "მაწიმის",
-            "ნინიგორის", "ფონის", "ცოდნისკარის", "ჭიაურის", "საგარეჯო", "ბადიაური", "გიორგიწმინდის", "გომბორის",
-            "დიდი ჩაილურის", "დუზაგრამის", "ვერხვიანი", "თოხლიაური", "თულარის", "იორმუღანლოს", "კაკაბეთის", "კოჭბაანის",
-            "ლამბალოს", "მანავის", "მზისგული", "ნინოწმინდა", "პატარა ჩაილური", "პატარძეული", "სათაფლე", "უდაბნო",
-            "უჯარმის", "ყანდაურის", "შიბლიანი", "წყაროსთავი", "ხაშმი", "სიღნაღი", "წნორი", "ანაგა", "ბოდბის",
-            "ბოდბისხევი", "ვაქირი", "ილიაწმინდა", "მაღარო", "ნუკრიანი", "საქობოს", "ტიბაანი", "ქვემო მაჩხაანის",
-            "ძველი ანაგა", "ჯუგაანის", "ყვარელი", "ბალღოჯიანი", "გავაზი", "გრემის", "ენისელი", "კუჭატნის", "მზისძირი",
-            "საბუის", "შილდა", "ჭიკაანის", "ახალგორი", "ბოლის", "გდუს", "ზახორის", "კორინთის", "ლარგვისის", "სალბიერის",
-            "ქარჩოხის", "ცხრაძმის", "წინაგარის", "დუშეთი", "ჟინვალის", "ფასანაურის", "ანანურის", "გრემისხევის",
-            "გუდამაყრის", "ლაფანაანთკარის", "მაღაროსკარი", "მჭადიჯვრის", "უკანაფშავის", "ქვეშეთის", "შატილის",
-            "ჭართლის", "ჭონქაძის", "ჭოპორტის", "ხევსურეთის", "ხეობის", "თიანეთის", "სიონის", "არტანის", "ზარიძეების",
-            "ნაქალაქარის", "ჟებოტას", "სიმონიანთხევის", "ტუშურების", "ღულელების", "ჩეკურაანთგორის", "ხევსურთსოფლის",
-            "აღდგომლიანთკარის", "გალავნის", "ვაზიანი", "ლისის", "მისაქციელის", "მუხრანის", "ნიჩბისის", "საგურამოს",
-            "ქსანი", "ქსოვრისის", "ცხვარიჭამიის", "ძალისი", "ძეგვის", "წეროვანის", "წილკანის", "სტეფანწმინდას",
-            "გორისციხის", "გუდაურის", "კობის", "სნოს", "ბუგეულის", "ველევის", "ზნაკვის", "იწის", "ლიხეთის", "ნამანევის",
-            "ნიკორწმინდის", "სადმელის", "სხვავის", "ღადიშის", "ცახის", "წესის", "ჭიაღელის", "ჭრებალოს", "ჭყვიშის",
-            "ხვანჭკარის", "ხოდიკარის", "ხოტევის", "ლენტეხის", "ჟახუნდერის", "რცხმელურის", "ჩიხარეშის", "ჩოლურის",
-            "ცანის", "ხელედის", "ხოფურის", "ონი", "ბარის", "გლოლა", "კვაშხიეთის", "კიროვის", "კომანდელის", "მრავალძალი",
-            "პიპილეთის", "საკაოს", "სორის", "უწერის", "ფარახეთის", "ღარის", "ღების", "შეუბნის", "შქმერის", "ჩასავლის",
-            "ცხმორის", "წედისის", "ჭიორა", "ცაგერი", "ალპანის", "აღვის", "ზუბის", "ლაილაშის", "ლასურიაშის", "ლუხვანოს",
-            "ნაკურალეშის", "ორბელის", "ოკურეშის", "საირმის", "სპათაგორის", "ტვიშის", "უსახელოს", "ქვედა ცაგერის",
-            "ღვირიშის", "ჩქუმის", "ჩხუთელის", "წიფერჩის", "აბაშა", "გეზათის", "ზანათის", "კეთილარის", "მარნის",
-            "ნაესაკაოს", "ნორიოს", "ონტოფო", "სამიქაოს", "სეფიეთი", "სუჯუნის", "ტყვირის", "ქოლობნის", "ძველი აბაშა",
-            "წყემი", "აბასთუმნის", "ანაკლიის", "ახალი აბასთუმანი", "ახალკახათი", "განარჯიის მუხური", "გრიგოლიში",
-            "დარჩელის", "დიდი ნეძი", "ერგეთის", "ინგირის", "კახათი", "კოკის", "კორცხელის", "ნარაზენის", "ორსანტია",
-            "ორულის", "რიყე", "რუხის", "ურთა", "ყულიშკარი", "შამგონა", "ჩხორიის", "ცაიშის", "ჭაქვინჯის", "ჭითაწყარი",
-            "ჭკადუაში", "ჯიხასკარის", "მარტვილი", "აბედათის", "ბანძის", "გაჭედილის", "გურძემის", "დიდი ჭყონის",
-            "დოშაყის", "ვედიდკარის", "თამაკონის", "ინჩხურის", "კიციას", "კურზუს", "ლეხაინდრავოს", "ნაგვაზავოს",
-            "ნახუნავოს", "ნაჯავახოს", "ონოღია", "სერგიეთის", "ტალერის", "ხუნწის", "მესტია", "ბეჩოს", "იდლიანის",
-            "იფარის", "კალის", "ლატალის", "ლახამულას", "ლენჯერის", "მულახის", "ნაკრას", "უშგულის", "ფარის", "ცხუმარის",
-            "წვირმის", "ჭუბერის", "ხაიშის", "სენაკი", "გეჯეთი", "ეკის", "ზანის", "ზემო ჭალადიდის", "თეკლათის",
-            "ლეძაძამეს", "მენჯის", "ნოსირის", "ნოქალაქევის", "უშაფათის", "ფოცხოს", "ძველი სენაკი", "ხორშის",
-            "ჩხოროწყუს", "ახუთის", "ზუმი", "თაია", "კირცხის", "ლესიჭინეს", "ლეწურწუმეს", "ნაკიანის", "ნაფიჩხოვოს",
-            "ქვედა ჩხოროწყუს", "ჭოღას", "ხაბუმეს", "წალენჯიხის", "ჯვარის", "ლიის", "მედანის", "მიქავას", "მუჟავის",
-            "ნაკიფუს", "ობუჯის", "ფახულანის", "ჩხვალერის", "ჭალეს", "ჯგალის", "ხობი", "ახალხიბულის", "ბიის",
-            "გურიფულის", "ზემო ქვალონის", "ტორსა-ძღვაბას", "ნოჯიხევის", "პატარა ფოთი", "პირველი ხორგა", "საგვიჩიო",
-            "საჯიჯაო", "ქარიათის", "ქვემო ქვალონის", "ყულევი", "შავღელე", "შუა ხორგის", "ძველი ხიბულა", "ჭალადიდის",
-            "ხამისქური", "ხეთის", "ადიგენი", "აბასთუმანი", "არალის", "ბენარის", "ბოლაჯურის", "გორგულის", "დერცელის",
-            "ვარხანის", "ზანავის", "ზარზმის", "ზედუბნის", "ლელოვნის", "მლაშის", "მოხეს", "უდის", "ფხეროს", "ჩორჩანის",
-            "ცახანის", "ჭეჭლის", "ხევაშენის", "ასპინძა", "აწყვიტა", "დამალა", "ვარგავის", "იდუმალას", "ნაქალაქევის",
-            "ოთა", "ორგორის", "რუსთავი", "ტოლოშის", "ძველის", "ხიზაბავრას", "ახალქალაქი", "აზავრეთის", "ალასტანის",
-            "არაგვას", "ბარალეთის", "გოგაშენის", "დილისკა", "ვაჩიანის", "ზაკვის", "კარტიკამის", "კარწახის", "კოთელია",
-            "კოჭიოს", "კუმურდოს", "ოკამის", "პტენა", "სულდის", "ტურცხის", "ჩუნჩხა", "ხავეთის", "ხანდო", "ხოსპიოს",
-            "ვალე", "ანდრიაწმინდის", "აწყურის", "ელიაწმინდის", "კლდის", "მინაძის", "პამაჯის", "საძელის", "სვირის",
-            "სხვილისის", "ურავლის", "ფერსის", "წყალთბილას", "წყრუთის", "ბორჯომი", "ახალდაბა", "ბაკურიანის", "წაღვერის",
-            "ბალანთის", "გვერდისუბნის", "გუჯარეთის", "დვირის", "ტაბაწყურის", "ტაძრისის", "ტბის", "ყვიბისის",
-            "ციხისჯვარი", "განძის", "გორელოვკის", "გონდრიოს", "ეშთიის", "სათხის", "ტამბოვკის", "ფოკის", "ხანჩალის",
-            "ჯიგრაშენი", "ბოლნისი", "თამარისის", "კაზრეთის", "აკაურთას", "დარბაზის", "დისველი", "მამხუთის", "ნახიდურის",
-            "რატევანი", "ტაჭისუბანი", "ტალავერი", "ტანძია", "ქვემო ბოლნისი", "ქვეში", "გარდაბანი", "აღთაკლია",
-            "ახალი სამგორი", "ახალსოფელი", "ვახტანგისი", "თელეთი", "კალინინო", "კრწანისი", "კუმისი", "ლემშვენიერა",
-            "მარტყოფი", "ნაზარლო", "სართიჭალის", "ქესალო", "ყარათაკლია", "ყარაჯალარი", "ჯანდარა", "დმანისი", "ამამლოს",
-            "განთიადის", "გომარეთის", "გუგუთის", "დიდი დმანისის", "დმანისის", "ირგანჩაი", "იფნარი", "კამარლოს",
-            "მაშავერა", "ოროზმანის", "საკირეს", "სარკინეთის", "ყარაბულახი", "ყიზილკილისას", "თეთრიწყაროს", "მანგლისის",
-            "ასურეთის", "ბორბალოს", "გოლთეთის", "დაღეთის", "დურნუკის", "თონეთის", "ირაგის", "კლდეისის", "კოდის",
-            "მარაბდის", "ორბეთის", "შეკვეთილის", "ჩხიკვთის", "წინწყაროს", "ჭივჭავის", "ჯორჯიაშვილის", "მარნეული",
-            "ალგეთის", "ახკერპის", "დამია-გეურარხის", "კასუმლოს", "კაპანახჩის", "კაჩაგანის", "ოფრეთის", "სადახლოს",
-            "ქუთლიარის", "ყიზილ-აჯლო", "ყულარის", "შაუმიანის", "შულავერის", "წერაქვის", "წერეთელის", "ხოჯორნის",
-            "წალკის", "ბედიანის", "თრიალეთის", "ავრანლო", "აიაზმი", "არწივანი", "არჯევან-სარვანის", "აშკალა", "ბარეთის",
-            "ბერთა", "ბეშთაშენის", "ბურნაშეთი", "გუმბათი", "დარაკოვი", "დაშბაში", "თეჯისი", "კაბური", "ყიზილ-კილისა",
-            "კოხტას", "კუში", "ნარდევანი", "ოზნი", "რეხა", "სამება", "საყდრიონი", "ჩივთ-კილისა", "ხანდოს", "ხაჩკოვი",
-            "ატენის", "ახალუბნის", "ბერბუკის", "ბოშურის", "დიცის", "ვარიანის", "ზეღდულეთის", "კარალეთის", "მერეთის",
-            "მეჯვრისხევის", "მღებრიანის", "ნიქოზის", "საყავრის", "სკრის", "ტინისხიდის", "ტირძნისის", "ტყვიავის",
-            "ქვახვრელის", "შავშვების", "შინდისის", "ძევერის", "ხიდისთავი", "კასპი", "აღაიანის", "ახალქალაქის",
-            "ახალციხის", "დოესის", "ზემო ხანდაკის", "თელიანის", "კავთისხევის", "კოდისწყაროს", "ლამისყანის", "მეტეხის",
-            "სამთავისის", "ქვემო გომის", "ქვემო ჭალის", "წინარეხის", "ხოვლე", "ქარელი", "აბისის", "ავლევის", "ბებნისის",
-            "ბრეთის", "ბრეძის", "გიგანტის", "დვანის", "დირბი", "ზემო ხვედურეთი", "ზღუდრის", "კეხიჯვრის", "მოხისის",
-            "რუისი", "ურბნისი", "ფცის", "ხაშურის", "სურამის", "ალის", "ოსიაურის", "ფლევის", "ქვიშხეთის", "ცოცხნარის",
-            "ცხრამუხის", "წაღვლის", "წრომის", "ხალების", "ხცისის", "არცევის", "ბელოთი", "ბერულის", "ბიყარის", "გერის",
-            "ვანათის", "ქსუისის", "ღრომის", "ყორნისი", "ავნევის", "ბალთის", "თერეგვანის", "თიღვის", "ყორნისის",
-            "ძვილეთის", "ქემერტის", "ქურთის", "ძარის", "ხეთაგუროვოს", "ჯავა", "კვაისის", "ედისის", "ვანელის",
-            "მსხლების", "როკის", "ქეშელთის", "ყემულთის", "წონის", "ხვწის", "ლენტეხი", "თიანეთი", "სტეფანწმინდა",
-            "ბახმარო", "გუდაუთა", "ქუთაისი", "მცხეთა", "ხულო", "ხაშური", "ამბროლაური", "თელავი", "ზუგდიდი", "ფოთი",
-            "ჟინვალი", "სურამი", "გორი", "ჯვარი", "ჩხოროწყუ", "ბაკურიანი", "ჩაქვი", "წაღვერი", "სიონი", "ბედიანი",
-            "თრიალეთი", "ფასანაური", "თბილისი", "ბათუმი", "სოხუმი", "ცხინვალი", "მანგლისი", "ტყვარჩელი", "აგარა",
-            "ხრამჰესი", "კაზრეთი", "წალკა", "წალენჯიხა", "თამარისი", "ახალციხე", "ოჩამჩირე", "თეთრიწყარო");
+    /** Preference holding the path or URL of a gazetteer file that replaces the bundled one */
+    public static final String GAZETTEER_PREF = "validator.georgian_toponyms.gazetteer";
+    /** Preference switching between sequential checks in visit (default) and parallel batch checks in endTest */
+    public static final String PARALLEL_PREF = "validator.georgian_toponyms.parallel";
+    /** Preference enabling incremental validation: results are kept between runs and only changed places are checked */
+    public static final String INCREMENTAL_PREF = "validator.georgian_toponyms.incremental";
+    /** Preference enabling hot-path metrics: a summary logged per run and JVM totals over JMX */
+    public static final String METRICS_PREF = "validator.georgian_toponyms.metrics";
+
+    // Counters of the current run, null when metrics are disabled
+    private ValidatorMetrics metrics;
+
+    // Batch mode: visit() only collects places, endTest() checks them in parallel
+    private boolean batch;
+    private List<OsmPrimitive> candidates;
+
+    // Incremental mode: results survive the run, and the dataset listener drops those of edited places in between
+    private boolean incremental;
+    private final PlaceResultCache results = new PlaceResultCache();
+
+    // Place area -> its representative point {lat, lon}. Computing it means building the area geometry, so
+    // points are kept across runs and dropped on geometry edits only, or once the layer is closed.
+    private static final double[] NO_POINT = {Double.NaN, Double.NaN};
+    private final Map<OsmPrimitive, double[]> areaPoints = new ConcurrentHashMap<>();
+
+    // Georgia polygon taken from the validated dataset, resolved once and again after edits of the boundary.
+    // The source primitive is kept to recognize those edits.
+    private volatile BoundaryIndex datasetBoundary;
+    private volatile OsmPrimitive datasetBoundarySource;
+    private volatile boolean datasetBoundaryResolved;
+    // Regions and municipalities of the validated dataset that have names of their own in the gazetteer,
+    // resolved together with the Georgia polygon. Null when there are none.
+    private volatile AdminUnitIndex adminUnits;
+    private volatile Set<OsmPrimitive> adminUnitSources = Collections.emptySet();
+    private volatile boolean adminUnitsResolved;
+    // Relation -> whether it belongs to the admin hierarchy of Georgia, shared by all nodes of one run.
+    // Only used when no boundary polygon is available. Cleared whenever relation members or tags change.
+    private Map<Relation, Boolean> relationInGeorgiaCache;
+    private final ThreadLocal<HierarchyWalk> walks = ThreadLocal.withInitial(HierarchyWalk::new);
+    private DataSet listenedDataSet;
+    private final DataSetListenerAdapter dataChangeListener = new DataSetListenerAdapter(this::dataChanged);
+    // Drops everything kept for the listened dataset once its layer is closed, so the test does not keep it alive
+    private final LayerChangeListener layerChangeListener = new LayerChangeListener() {
+        @Override
+        public void layerAdded(LayerAddEvent e) {
+            // Nothing kept for new layers
+        }
+
+        @Override
+        public void layerRemoving(LayerRemoveEvent e) {
+            if (e.getRemovedLayer() instanceof OsmDataLayer
+                    && ((OsmDataLayer) e.getRemovedLayer()).getDataSet() == listenedDataSet) {
+                forgetDataSet();
+            }
+        }
+
+        @Override
+        public void layerOrderChanged(LayerOrderChangeEvent e) {
+            // Order does not matter
+        }
+    };
 
     public GeorgianToponyms() {
         super(tr("Georgian Toponym Validator"), tr("Checks whether city/town name is an official Georgian name."));
     }
 
+    @Override
+    public void startTest(ProgressMonitor progressMonitor) {
+        super.startTest(progressMonitor);
+        metrics = Config.getPref().getBoolean(METRICS_PREF, false) ? new ValidatorMetrics() : null;
+        batch = Config.getPref().getBoolean(PARALLEL_PREF, false);
+        candidates = batch ? new ArrayList<>() : null;
+        incremental = Config.getPref().getBoolean(INCREMENTAL_PREF, false);
+        if (!incremental) {
+            results.clear();
+        }
+        relationInGeorgiaCache = new ConcurrentHashMap<>();
+        if (listenedDataSet == null) {
+            // Nobody watched the data since the last run
+            resetDatasetBoundary();
+        }
+    }
+
+    @Override
+    public void endTest() {
+        long start = metrics != null ? System.nanoTime() : 0;
+        if (batch) {
+            checkCandidates();
+            candidates = null;
+        }
+        if (!incremental) {
+            // Only the area points outlive the run, the listeners keep watching the data and the layer for them
+            results.clear();
+            resetDatasetBoundary();
+        }
+        relationInGeorgiaCache = null;
+        if (metrics != null) {
+            metrics.endTestNanos.add(System.nanoTime() - start);
+            metrics.runs.increment();
+            Logging.info("Georgian toponyms: " + metrics.summary());
+            metrics.addTo(ValidatorMetrics.totals());
+            metrics = null;
+        }
+        super.endTest();
+    }
+
     @Override
     public void visit(Node node) {
-        if ((node.hasTag("place", "city") || node.hasTag("place", "town") || node.hasTag("place", "village")
-                || node.hasTag("place", "neighbourhood") || node.hasTag("place", "quarter")) && isNodeInGeorgia(node)) {
-            String nameTagValueKa = node.get("name:ka");
-            String nameTagValueEn = node.get("name:en");
-
-            if (nameTagValueKa != null && !isValidGeorgianNameKa(nameTagValueKa)) {
-                errors.add(TestError.builder(this, Severity.WARNING, WRONG_NAME_KA)
-                        .message(tr("Invalid Georgian name"),
-                                marktr("Name:ka " + nameTagValueKa
-                                        + " does not seem to be an official Georgian city/town name."),
-                                node)
-                        .primitives(node)
-                        .build());
+        ValidatorMetrics m = metrics;
+        if (m == null) {
+            // Fast path: most nodes carry no place tag, and valid places allocate nothing
+            if (ToponymRules.isCheckedPlace(node.get("place"))) {
+                visitPlace(node);
             }
-            if (nameTagValueEn != null && !isValidGeorgianNameEn(nameTagValueEn)) {
-                errors.add(TestError.builder(this, Severity.WARNING, WRONG_NAME_EN)
-                        .message(tr("Invalid Georgian name"),
-                                marktr("Name:en " + nameTagValueEn
-                                        + " does not seem to be an official Georgian city/town name."),
-                                node)
-                        .primitives(node)
-                        .build());
+        } else {
+            long start = System.nanoTime();
+            m.nodesVisited.increment();
+            if (ToponymRules.isCheckedPlace(node.get("place"))) {
+                m.placeNodes.increment();
+                visitPlace(node);
             }
+            m.visitNanos.add(System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public void visit(Way way) {
+        if (ToponymRules.isCheckedPlace(way.get("place")) && way.isClosed()) {
+            visitArea(way);
         }
     }
 
-    private boolean isValidGeorgianNameKa(String name) {
-        return officialGeorgianTownNamesKa.contains(name);
+    @Override
+    public void visit(Relation relation) {
+        if (ToponymRules.isCheckedPlace(relation.get("place")) && relation.isMultipolygon()) {
+            visitArea(relation);
+        }
     }
 
-    private boolean isValidGeorgianNameEn(String name) {
-        return officialGeorgianTownNamesEn.contains(name);
+    private void visitArea(OsmPrimitive area) {
+        ValidatorMetrics m = metrics;
+        if (m == null) {
+            visitPlace(area);
+        } else {
+            long start = System.nanoTime();
+            m.placeAreas.increment();
+            visitPlace(area);
+            m.visitNanos.add(System.nanoTime() - start);
+        }
     }
 
-    private boolean isNodeInGeorgia(Node node) {
-        return checkReferrersRecursively(node, new HashSet<>());
+    private void visitPlace(OsmPrimitive place) {
+        listenForDataChanges(place.getDataSet());
+        List<TestError> cached = incremental ? results.get(place) : null;
+        if (cached != null) {
+            errors.addAll(cached);
+        } else if (batch) {
+            candidates.add(place);
+        } else {
+            List<TestError> found = checkPlace(place);
+            if (incremental) {
+                results.put(place, found);
+            }
+            if (!found.isEmpty()) {
+                errors.addAll(found);
+            }
+        }
     }
 
-    private boolean checkReferrersRecursively(OsmPrimitive current, Set<Long> visited) {
-        if (visited.contains(current.getUniqueId())) {
-            return false;
+    /**
+     * Runs the containment and name checks for one place node or area. Safe to call from several threads.
+     * Returns the shared empty list for valid places; warnings and their suggestions are only built on failure.
+     */
+    private List<TestError> checkPlace(OsmPrimitive place) {
+        double lat;
+        double lon;
+        if (place instanceof Node) {
+            Node node = (Node) place;
+            lat = node.isLatLonKnown() ? node.lat() : Double.NaN;
+            lon = node.isLatLonKnown() ? node.lon() : Double.NaN;
+        } else {
+            double[] point = areaPoint(place);
+            lat = point[0];
+            lon = point[1];
+        }
+        if (!isInGeorgia(place, lat, lon)) {
+            return Collections.emptyList();
+        }
+        String nameTagValueKa = place.get("name:ka");
+        String nameTagValueEn = place.get("name:en");
+        if (nameTagValueKa == null && nameTagValueEn == null) {
+            return Collections.emptyList();
         }
-        visited.add(current.getUniqueId());
 
-        if (current instanceof Relation) {
-            Relation relation = (Relation) current;
-            if ("2".equals(relation.get("admin_level")) && "Georgia".equals(relation.get("int_name"))) {
-                return true;
+        String unit = adminUnitAt(place.getDataSet(), lat, lon);
+        ToponymGazetteer namesKa = OfficialNames.DATA.getNamesKa(unit);
+        ToponymGazetteer namesEn = OfficialNames.DATA.getNamesEn(unit);
+        boolean validKa = nameTagValueKa == null || namesKa.contains(nameTagValueKa);
+        boolean validEn = nameTagValueEn == null || namesEn.contains(nameTagValueEn);
+        ValidatorMetrics m = metrics;
+        if (m != null) {
+            if (nameTagValueKa != null) {
+                m.recordLookup(true, validKa);
+            }
+            if (nameTagValueEn != null) {
+                m.recordLookup(false, validEn);
             }
         }
 
-        List<Relation> referrers = current.referrers(Relation.class).collect(Collectors.toList());
-        for (Relation referrer : referrers) {
-            if (checkReferrersRecursively(referrer, visited)) {
-                return true;
+        if (validKa && validEn) {
+            return Collections.emptyList();
+        }
+        // Names that are official elsewhere in Georgia get their own warning, suggestions come from the unit
+        List<TestError> found = new ArrayList<>(2);
+        if (!validKa) {
+            found.add(namesKa != OfficialNames.DATA.getNamesKa() && isValidGeorgianNameKa(nameTagValueKa)
+                    ? wrongName(place, WRONG_UNIT_NAME_KA, "name:ka", nameTagValueKa, unit, namesKa)
+                    : wrongName(place, WRONG_NAME_KA, "name:ka", nameTagValueKa, null, namesKa));
+        }
+        if (!validEn) {
+            found.add(namesEn != OfficialNames.DATA.getNamesEn() && isValidGeorgianNameEn(nameTagValueEn)
+                    ? wrongName(place, WRONG_UNIT_NAME_EN, "name:en", nameTagValueEn, unit, namesEn)
+                    : wrongName(place, WRONG_NAME_EN, "name:en", nameTagValueEn, null, namesEn));
+        }
+        return found;
+    }
+
+    /**
+     * Returns the cached representative point of a place area, computed on first use: a point inside the
+     * closed way or the outer/inner rings of the multipolygon, or {@link #NO_POINT} if the geometry is
+     * incomplete.
+     */
+    private double[] areaPoint(OsmPrimitive area) {
+        double[] point = areaPoints.get(area);
+        if (point == null) {
+            BoundaryIndex geometry = buildBoundary(area);
+            point = geometry == null ? null : geometry.interiorPoint();
+            if (point == null) {
+                point = NO_POINT;
             }
+            areaPoints.put(area, point);
         }
+        return point;
+    }
+
+    /**
+     * Checks the places collected by {@link #visitPlace} on the common fork-join pool. Each worker writes
+     * the result of a place into its slot of one array, which keeps the errors in visit order, so the
+     * output does not depend on scheduling. Apart from the fork-join tasks, the batch costs one array
+     * slot per place, valid places allocate nothing else.
+     */
+    private void checkCandidates() {
+        int count = candidates.size();
+        Object[] found = new Object[count];
+        IntStream.range(0, count).parallel().forEach(i -> found[i] = checkPlace(candidates.get(i)));
+        for (int i = 0; i < count; i++) {
+            @SuppressWarnings("unchecked")
+            List<TestError> placeErrors = (List<TestError>) found[i];
+            if (incremental) {
+                results.put(candidates.get(i), placeErrors);
+            }
+            if (!placeErrors.isEmpty()) {
+                errors.addAll(placeErrors);
+            }
+        }
+    }
+
+    /**
+     * Builds the warning for a name missing from the gazetteer, or with {@code unit} set, for an official
+     * name that is not one of the names of that admin unit. The closest official spellings are
+     * suggested, and a single unambiguous suggestion is offered as a fix that rewrites the tag.
+     */
+    private TestError wrongName(OsmPrimitive primitive, int code, String key, String value, String unit,
+            ToponymGazetteer gazetteer) {
+        List<String> suggestions = gazetteer.suggest(value);
+        TestError.Builder builder = TestError.builder(this, Severity.WARNING, code).primitives(primitive);
+        if (unit != null && suggestions.isEmpty()) {
+            builder.message(tr("Invalid Georgian name"),
+                    marktr("{0} {1} is an official Georgian name, but not one in {2}."),
+                    key, value, unit);
+        } else if (unit != null) {
+            builder.message(tr("Invalid Georgian name"),
+                    marktr("{0} {1} is an official Georgian name, but not one in {2}. Did you mean {3}?"),
+                    key, value, unit, String.join(", ", suggestions));
+        } else if (suggestions.isEmpty()) {
+            builder.message(tr("Invalid Georgian name"),
+                    marktr("{0} {1} does not seem to be an official Georgian city/town name."),
+                    key, value);
+        } else {
+            builder.message(tr("Invalid Georgian name"),
+                    marktr("{0} {1} does not seem to be an official Georgian city/town name. Did you mean {2}?"),
+                    key, value, String.join(", ", suggestions));
+        }
+        if (suggestions.size() == 1) {
+            String suggestion = suggestions.get(0);
+            builder.fix(() -> new ChangePropertyCommand(primitive, key, suggestion));
+        }
+        return builder.build();
+    }
 
-        return false;
+    boolean isValidGeorgianNameKa(String name) {
+        return OfficialNames.DATA.getNamesKa().contains(name);
+    }
+
+    boolean isValidGeorgianNameEn(String name) {
+        return OfficialNames.DATA.getNamesEn().contains(name);
+    }
+
+    /**
+     * Tests whether the result of the place is kept for the next run, which only happens in incremental mode.
+     */
+    boolean hasCachedResult(OsmPrimitive place) {
+        return results.get(place) != null;
+    }
+
+    /**
+     * Tests whether the representative point of the place area is kept for the next run.
+     */
+    boolean hasAreaPoint(OsmPrimitive area) {
+        return areaPoints.containsKey(area);
+    }
+
+    /**
+     * Tests whether a place lies in Georgia, given its location or NaN if unknown.
+     */
+    private boolean isInGeorgia(OsmPrimitive place, double lat, double lon) {
+        if (metrics != null) {
+            metrics.containmentChecks.increment();
+        }
+        BoundaryIndex boundary = georgiaBoundary(place.getDataSet());
+        if (boundary != null) {
+            return !Double.isNaN(lat) && boundary.contains(lat, lon);
+        }
+        return isInGeorgiaHierarchy(place);
+    }
+
+    /**
+     * Returns the prepared Georgia polygon: the boundary relation of the validated dataset when it is
+     * downloaded completely, otherwise the simplified boundary bundled with JOSM.
+     */
+    private BoundaryIndex georgiaBoundary(DataSet dataSet) {
+        if (!datasetBoundaryResolved) {
+            synchronized (this) {
+                if (!datasetBoundaryResolved) {
+                    PreparedBoundary found = dataSet == null ? null : findGeorgiaBoundary(dataSet.getRelations());
+                    if (found != null) {
+                        datasetBoundary = found.index;
+                        datasetBoundarySource = found.source;
+                    }
+                    datasetBoundaryResolved = true;
+                }
+            }
+        }
+        return datasetBoundary != null ? datasetBoundary : BundledBoundary.get();
+    }
+
+    private synchronized void resetDatasetBoundary() {
+        datasetBoundaryResolved = false;
+        datasetBoundary = null;
+        datasetBoundarySource = null;
+        adminUnitsResolved = false;
+        adminUnits = null;
+        adminUnitSources = Collections.emptySet();
+    }
+
+    /**
+     * Returns the most specific region or municipality at the location that has names of its own in the
+     * gazetteer, or {@code null} if there is none.
+     */
+    private String adminUnitAt(DataSet dataSet, double lat, double lon) {
+        AdminUnitIndex index = adminUnits(dataSet);
+        return index != null && !Double.isNaN(lat) ? index.unitAt(lat, lon) : null;
+    }
+
+    /**
+     * Returns the spatial index of the complete region and municipality boundary relations of the dataset
+     * whose names are listed in the gazetteer, built on first use after each reset.
+     */
+    private AdminUnitIndex adminUnits(DataSet dataSet) {
+        if (!adminUnitsResolved) {
+            synchronized (this) {
+                if (!adminUnitsResolved) {
+                    AdminUnitIndex.Builder builder = new AdminUnitIndex.Builder();
+                    Set<OsmPrimitive> sources = new HashSet<>();
+                    if (dataSet != null && OfficialNames.DATA.hasUnits()) {
+                        for (Relation relation : dataSet.getRelations()) {
+                            String unit = adminUnit(relation);
+                            BoundaryIndex boundary = relation.isUsable() && OfficialNames.DATA.hasUnit(unit)
+                                    ? buildBoundary(relation) : null;
+                            if (boundary != null) {
+                                builder.add(unit, Integer.parseInt(relation.get("admin_level")), boundary);
+                                sources.add(relation);
+                            }
+                        }
+                    }
+                    adminUnits = builder.build();
+                    adminUnitSources = sources;
+                    adminUnitsResolved = true;
+                }
+            }
+        }
+        return adminUnits;
+    }
+
+    private static String adminUnit(OsmPrimitive primitive) {
+        return ToponymRules.adminUnit(primitive.get("boundary"), primitive.get("admin_level"),
+                primitive.get("name:en"));
+    }
+
+    /**
+     * Returns the first complete Georgia boundary among the primitives together with its prepared polygon,
+     * or {@code null} if there is none.
+     */
+    private static PreparedBoundary findGeorgiaBoundary(Collection<? extends OsmPrimitive> primitives) {
+        for (OsmPrimitive primitive : primitives) {
+            if (primitive.isUsable() && isGeorgiaBoundary(primitive)) {
+                BoundaryIndex boundary = buildBoundary(primitive);
+                if (boundary != null) {
+                    return new PreparedBoundary(primitive, boundary);
+                }
+            }
+        }
+        return null;
+    }
+
+    private static final class PreparedBoundary {
+        final OsmPrimitive source;
+        final BoundaryIndex index;
+
+        PreparedBoundary(OsmPrimitive source, BoundaryIndex index) {
+            this.source = source;
+            this.index = index;
+        }
+    }
+
+    private static boolean isGeorgiaBoundary(OsmPrimitive primitive) {
+        return ToponymRules.isGeorgiaBoundary(primitive.get("admin_level"), primitive.get("int_name"),
+                primitive.get("ISO3166-1:alpha2"));
+    }
+
+    /**
+     * Builds a prepared polygon from a closed way or from the outer/inner ways of a relation.
+     * Returns {@code null} if the geometry is incomplete or its rings are not closed.
+     */
+    private static BoundaryIndex buildBoundary(OsmPrimitive primitive) {
+        List<Way> ways = new ArrayList<>();
+        if (primitive instanceof Way) {
+            ways.add((Way) primitive);
+        } else if (primitive instanceof Relation) {
+            Relation relation = (Relation) primitive;
+            if (relation.hasIncompleteMembers()) {
+                return null;
+            }
+            for (RelationMember member : relation.getMembers()) {
+                if (member.isWay() && ("outer".equals(member.getRole()) || "inner".equals(member.getRole())
+                        || member.getRole().isEmpty())) {
+                    ways.add(member.getWay());
+                }
+            }
+        }
+
+        // Every ring is closed iff each way end point is shared by an even number of way ends
+        Set<Node> openEnds = new HashSet<>();
+        BoundaryIndex.Builder builder = new BoundaryIndex.Builder();
+        for (Way way : ways) {
+            if (way.isIncomplete() || way.getNodesCount() < 2) {
+                return null;
+            }
+            for (Node end : Arrays.asList(way.firstNode(), way.lastNode())) {
+                if (!openEnds.remove(end)) {
+                    openEnds.add(end);
+                }
+            }
+            Node previous = null;
+            for (Node current : way.getNodes()) {
+                if (!current.isLatLonKnown()) {
+                    return null;
+                }
+                if (previous != null) {
+                    builder.addEdge(previous.lat(), previous.lon(), current.lat(), current.lon());
+                }
+                previous = current;
+            }
+        }
+        return openEnds.isEmpty() ? builder.build() : null;
+    }
+
+    boolean isInGeorgiaHierarchy(OsmPrimitive place) {
+        HierarchyWalk walk = walks.get();
+        walk.relationsTraversed = 0;
+        walk.found = false;
+        walk.undecided = false;
+        place.visitReferrers(walk);
+        if (metrics != null) {
+            metrics.recordRelationsTraversed(walk.relationsTraversed);
+        }
+        return walk.found;
+    }
+
+    /**
+     * State of the referrer walks of one thread, reused from node to node. It visits the referrers in
+     * place instead of copying them, and keeps the relations on the current path in a list since the
+     * hierarchy is only a few levels deep.
+     */
+    private final class HierarchyWalk implements OsmPrimitiveVisitor {
+        final List<Relation> path = new ArrayList<>();
+        int relationsTraversed;
+        // Outcome over the referrers of the relation being checked
+        boolean found;
+        boolean undecided;
+
+        @Override
+        public void visit(Relation referrer) {
+            if (!found) {
+                Boolean result = checkReferrersRecursively(referrer, this);
+                found = Boolean.TRUE.equals(result);
+                undecided |= result == null;
+            }
+        }
+
+        @Override
+        public void visit(Node referrer) {
+            // Nodes never refer to other primitives
+        }
+
+        @Override
+        public void visit(Way referrer) {
+            // Ways only refer to nodes, which are not part of the hierarchy
+        }
+    }
+
+    /**
+     * Walks up the relation hierarchy, memoizing the outcome per relation for the current run.
+     * Returns {@code null} when the answer depends on a relation further down the stack (a cycle),
+     * in which case nothing is cached until that relation is resolved.
+     */
+    private Boolean checkReferrersRecursively(Relation relation, HierarchyWalk walk) {
+        walk.relationsTraversed++;
+        Boolean cached = relationInGeorgiaCache.get(relation);
+        if (cached != null) {
+            return cached;
+        }
+        if (isGeorgiaBoundary(relation)) {
+            relationInGeorgiaCache.put(relation, Boolean.TRUE);
+            return Boolean.TRUE;
+        }
+        if (walk.path.contains(relation)) {
+            return null;
+        }
+
+        // The visitor fields hold the outcome of the caller's level, restored once this level is done
+        boolean callerFound = walk.found;
+        boolean callerUndecided = walk.undecided;
+        walk.found = false;
+        walk.undecided = false;
+        walk.path.add(relation);
+        relation.visitReferrers(walk);
+        walk.path.remove(walk.path.size() - 1);
+        boolean found = walk.found;
+        boolean undecided = walk.undecided;
+        walk.found = callerFound;
+        walk.undecided = callerUndecided;
+
+        if (found) {
+            relationInGeorgiaCache.put(relation, Boolean.TRUE);
+            return Boolean.TRUE;
+        }
+        // Once the outermost relation is done, every relation of the cycle has been explored
+        if (undecided && !walk.path.isEmpty()) {
+            return null;
+        }
+        relationInGeorgiaCache.put(relation, Boolean.FALSE);
+        return Boolean.FALSE;
+    }
+
+    private void listenForDataChanges(DataSet dataSet) {
+        if (dataSet != null && dataSet != listenedDataSet) {
+            // Results and boundary of another dataset are useless here
+            forgetDataSet();
+            listenedDataSet = dataSet;
+            dataSet.addDataSetListener(dataChangeListener);
+            MainApplication.getLayerManager().addLayerChangeListener(layerChangeListener);
+        }
+    }
+
+    /**
+     * Stops listening to the dataset and drops the results, area points and boundaries computed for it.
+     */
+    private void forgetDataSet() {
+        if (listenedDataSet != null) {
+            listenedDataSet.removeDataSetListener(dataChangeListener);
+            MainApplication.getLayerManager().removeLayerChangeListener(layerChangeListener);
+            listenedDataSet = null;
+        }
+        results.clear();
+        areaPoints.clear();
+        resetDatasetBoundary();
+    }
+
+    private void dataChanged(AbstractDatasetChangedEvent event) {
+        DatasetEventType type = event.getType();
+        Map<Relation, Boolean> relationCache = relationInGeorgiaCache;
+        if (type == DatasetEventType.DATA_CHANGED) {
+            if (relationCache != null) {
+                relationCache.clear();
+            }
+            resetDatasetBoundary();
+            results.clear();
+            areaPoints.clear();
+            return;
+        }
+        invalidateAreaPoints(event);
+
+        boolean relationChanged = type == DatasetEventType.RELATION_MEMBERS_CHANGED
+                || event.getPrimitives().stream().anyMatch(Relation.class::isInstance);
+        if (relationChanged && relationCache != null) {
+            relationCache.clear();
+        }
+        if (event.getPrimitives().stream().anyMatch(this::touchesBoundary)) {
+            resetDatasetBoundary();
+            results.clear();
+        } else if (relationChanged && datasetBoundary == null && BundledBoundary.get() == null) {
+            // Containment comes from the referrer walk, which any relation edit may change
+            results.clear();
+        } else {
+            for (OsmPrimitive primitive : event.getPrimitives()) {
+                if (primitive instanceof Relation) {
+                    results.invalidateBelow((Relation) primitive);
+                } else {
+                    results.invalidate(primitive);
+                }
+            }
+        }
+    }
+
+    /**
+     * Drops the cached points of the place areas whose geometry the event changed, together with their
+     * results. Tag edits keep the points.
+     */
+    private void invalidateAreaPoints(AbstractDatasetChangedEvent event) {
+        if (areaPoints.isEmpty()) {
+            return;
+        }
+        switch (event.getType()) {
+            case NODE_MOVED:
+            case WAY_NODES_CHANGED:
+            case RELATION_MEMBERS_CHANGED:
+                for (OsmPrimitive primitive : event.getPrimitives()) {
+                    invalidateAreaPoint(primitive);
+                }
+                break;
+            case PRIMITIVES_REMOVED:
+                for (OsmPrimitive primitive : event.getPrimitives()) {
+                    areaPoints.remove(primitive);
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Drops the points of the primitive and of the areas built from it: the ways of a node and the
+     * multipolygons of a way.
+     */
+    private void invalidateAreaPoint(OsmPrimitive primitive) {
+        if (areaPoints.remove(primitive) != null) {
+            results.invalidate(primitive);
+        }
+        if (primitive instanceof Node) {
+            primitive.referrers(Way.class).forEach(this::invalidateAreaPoint);
+        } else if (primitive instanceof Way) {
+            primitive.referrers(Relation.class).forEach(this::invalidateAreaPoint);
+        }
+    }
+
+    /**
+     * Tests whether an edit of the primitive may change the Georgia polygon of the dataset or the
+     * polygon of an admin unit with names of its own: the edit of such a boundary, of one of its ways,
+     * or of a node of these ways. Boundaries that were still incomplete when the polygons were built are
+     * recognized by their tags, so the download that completes them rebuilds the polygons.
+     */
+    private boolean touchesBoundary(OsmPrimitive primitive) {
+        if (primitive instanceof Node) {
+            return primitive.referrers(Way.class).anyMatch(this::isBoundaryOrBoundaryWay);
+        }
+        return isBoundaryOrBoundaryWay(primitive);
+    }
+
+    private boolean isBoundaryOrBoundaryWay(OsmPrimitive primitive) {
+        return isBoundary(primitive)
+                || (primitive instanceof Way && primitive.referrers(Relation.class).anyMatch(this::isBoundary));
+    }
+
+    private boolean isBoundary(OsmPrimitive primitive) {
+        return isBoundarySource(primitive) || isGeorgiaBoundary(primitive)
+                || (adminUnitsResolved && OfficialNames.DATA.hasUnit(adminUnit(primitive)));
+    }
+
+    private boolean isBoundarySource(OsmPrimitive primitive) {
+        return primitive == datasetBoundarySource || adminUnitSources.contains(primitive);
+    }
+
+    /**
+     * Official names, loaded once per JVM on the first name check.
+     */
+    private static final class OfficialNames {
+        static final GazetteerData DATA = loadGazetteer();
+
+        private static GazetteerData loadGazetteer() {
+            String source = Config.getPref().get(GAZETTEER_PREF, "");
+            if (!source.isEmpty()) {
+                try (CachedFile file = new CachedFile(source); InputStream in = file.getInputStream()) {
+                    GazetteerData data = GazetteerData.read(in);
+                    Logging.info("Georgian toponyms: loaded gazetteer {0} from {1}", data.getVersion(), source);
+                    return data;
+                } catch (IOException e) {
+                    Logging.warn("Georgian toponyms: cannot read gazetteer {0}, using the bundled one", source);
+                    Logging.warn(e);
+                }
+            }
+            try {
+                return GazetteerData.readBundled();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * Simplified boundary of Georgia bundled with JOSM, prepared once per JVM as soon as JOSM has loaded
+     * its territories. Until then, e.g. during startup or in headless benchmarks, there is none, and the
+     * next call tries again.
+     */
+    private static final class BundledBoundary {
+        private static volatile boolean prepared;
+        private static volatile BoundaryIndex index;
+
+        static BoundaryIndex get() {
+            if (!prepared) {
+                DataSet territories = Territories.getOriginalDataSet();
+                if (territories == null) {
+                    return null;
+                }
+                synchronized (BundledBoundary.class) {
+                    if (!prepared) {
+                        PreparedBoundary found = findGeorgiaBoundary(territories.allPrimitives());
+                        index = found == null ? null : found.index;
+                        prepared = true;
+                    }
+                }
+            }
+            return index;
+        }
     }
-}
\ No newline at end of file
+}
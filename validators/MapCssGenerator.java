@@ -0,0 +1,120 @@
+package org.openstreetmap.josm.data.validation.tests;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Generates {@code georgian_toponyms.mapcss} from the gazetteer file shared with the Java validator, so
+ * both validators check the same names. Each name list becomes one prefix-trie-factored regex: shared
+ * prefixes are written once and alternatives of single final characters are merged into character
+ * classes. The regex engine then decides most mismatches within a few characters instead of trying
+ * every alternative of a flat {@code ^(?:A|B|C|...)$}.
+ * <p>
+ * Usage: {@code MapCssGenerator georgian_toponyms.txt georgian_toponyms.mapcss}
+ */
+public final class MapCssGenerator {
+
+    private static final String RULE =
+            "node[place=~/^(city|town|village|neighbourhood|quarter)$/][inside(\"GE\")][\"%1$s\"!~/^%2$s$/] {\n"
+            + "  throwWarning: concat(\"%3$s \", eval(tag(\"%1$s\")),"
+            + " \" does not seem to be an official Georgian town/city name.\");\n"
+            + "}\n";
+
+    private static final class TrieNode {
+        final Map<Character, TrieNode> children = new TreeMap<>();
+        boolean terminal;
+    }
+
+    private MapCssGenerator() {
+        // Hide default constructor for utility classes
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: MapCssGenerator georgian_toponyms.txt georgian_toponyms.mapcss");
+            System.exit(2);
+            return;
+        }
+        GazetteerData gazetteer;
+        try (InputStream in = Files.newInputStream(Paths.get(args[0]))) {
+            gazetteer = GazetteerData.read(in);
+        }
+        Path output = Paths.get(args[1]);
+        try (Writer writer = Files.newBufferedWriter(output, StandardCharsets.UTF_8)) {
+            writer.write(generate(gazetteer));
+        }
+    }
+
+    static String generate(GazetteerData gazetteer) {
+        return "/* Generated by MapCssGenerator from georgian_toponyms.txt (version " + gazetteer.getVersion()
+                + "), do not edit. */\n\n"
+                + String.format(RULE, "name:ka", trieRegex(gazetteer.getNamesKa().officialNames()), "Name:ka")
+                + "\n"
+                + String.format(RULE, "name:en", trieRegex(gazetteer.getNamesEn().officialNames()), "Name:en");
+    }
+
+    /**
+     * Returns a regex, without anchors, that matches exactly the given names.
+     */
+    static String trieRegex(Collection<String> names) {
+        TrieNode root = new TrieNode();
+        for (String name : names) {
+            TrieNode node = root;
+            for (int i = 0; i < name.length(); i++) {
+                node = node.children.computeIfAbsent(name.charAt(i), c -> new TrieNode());
+            }
+            node.terminal = true;
+        }
+        return "(?:" + subtreeRegex(root) + ")";
+    }
+
+    /**
+     * Returns the regex for everything below the node, or an empty string for a leaf.
+     */
+    private static String subtreeRegex(TrieNode node) {
+        List<String> alternatives = new ArrayList<>();
+        List<Character> leaves = new ArrayList<>();
+        for (Map.Entry<Character, TrieNode> child : node.children.entrySet()) {
+            TrieNode next = child.getValue();
+            if (next.children.isEmpty()) {
+                leaves.add(child.getKey());
+            } else {
+                alternatives.add(escape(child.getKey(), false) + subtreeRegex(next));
+            }
+        }
+        if (leaves.size() == 1) {
+            alternatives.add(escape(leaves.get(0), false));
+        } else if (leaves.size() > 1) {
+            StringBuilder characterClass = new StringBuilder("[");
+            for (char leaf : leaves) {
+                characterClass.append(escape(leaf, true));
+            }
+            alternatives.add(characterClass.append(']').toString());
+        }
+        if (alternatives.isEmpty()) {
+            return "";
+        }
+
+        boolean singleAtom = alternatives.size() == 1 && !leaves.isEmpty();
+        String body = alternatives.size() == 1 ? alternatives.get(0) : "(?:" + String.join("|", alternatives) + ")";
+        if (!node.terminal) {
+            return body;
+        }
+        return singleAtom || alternatives.size() > 1 ? body + "?" : "(?:" + body + ")?";
+    }
+
+    private static String escape(char c, boolean inClass) {
+        String special = inClass ? "\\^-[]/" : "\\^$.|?*+()[]{}/";
+        return special.indexOf(c) >= 0 ? "\\" + c : String.valueOf(c);
+    }
+}
@@ -0,0 +1,78 @@
+package org.openstreetmap.josm.data.validation.tests;
+
+import org.openstreetmap.josm.data.osm.Node;
+import org.openstreetmap.josm.data.osm.OsmPrimitive;
+import org.openstreetmap.josm.data.osm.PrimitiveId;
+import org.openstreetmap.josm.data.osm.Relation;
+import org.openstreetmap.josm.data.osm.RelationMember;
+import org.openstreetmap.josm.data.osm.SimplePrimitiveId;
+import org.openstreetmap.josm.data.validation.TestError;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Validation results of place primitives kept between validator runs for incremental validation,
+ * keyed by primitive id. JOSM only sets the version of a primitive from the server, local edits leave
+ * it unchanged, so entries are not tied to a version: the dataset listener of the test drops the
+ * entries of the primitives each data change affects.
+ */
+final class PlaceResultCache {
+
+    private final Map<PrimitiveId, List<TestError>> results = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the cached errors of the primitive, or {@code null} if it has to be checked again.
+     */
+    List<TestError> get(OsmPrimitive primitive) {
+        return results.get(key(primitive));
+    }
+
+    void put(OsmPrimitive primitive, List<TestError> errors) {
+        results.put(key(primitive), errors);
+    }
+
+    void invalidate(OsmPrimitive primitive) {
+        results.remove(key(primitive));
+    }
+
+    /**
+     * Drops the results of the relation and of all nodes and relations below it, following member
+     * relations recursively.
+     */
+    void invalidateBelow(Relation relation) {
+        if (results.isEmpty()) {
+            return;
+        }
+        Set<Relation> visited = new HashSet<>();
+        Deque<Relation> pending = new ArrayDeque<>();
+        pending.push(relation);
+        while (!pending.isEmpty()) {
+            Relation current = pending.pop();
+            if (!visited.add(current)) {
+                continue;
+            }
+            invalidate(current);
+            for (RelationMember member : current.getMembers()) {
+                if (member.isNode()) {
+                    invalidate(member.getNode());
+                } else if (member.isRelation()) {
+                    pending.push(member.getRelation());
+                }
+            }
+        }
+    }
+
+    void clear() {
+        results.clear();
+    }
+
+    private static PrimitiveId key(OsmPrimitive primitive) {
+        return new SimplePrimitiveId(primitive.getUniqueId(), primitive.getType());
+    }
+}
@@ -0,0 +1,141 @@
+package org.openstreetmap.josm.data.validation.tests;
+
+import java.text.Normalizer;
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Immutable hash index of official toponyms. Keys are stored normalized, so lookups are O(1) and
+ * tolerate spelling variants that only differ in Unicode composition, surrounding whitespace or
+ * Georgian script case (Mtavruli vs Mkhedruli). Misses can be resolved to the closest official
+ * spellings through a {@link BkTree} that is built on the first suggestion request.
+ */
+final class ToponymGazetteer {
+
+    // Georgian Mtavruli (U+1C90..U+1CBF) maps one-to-one onto Mkhedruli (U+10D0..U+10FF)
+    private static final char MTAVRULI_FIRST = '\u1C90';
+    private static final char MTAVRULI_LAST = '\u1CBF';
+    private static final int MTAVRULI_TO_MKHEDRULI = '\u10D0' - MTAVRULI_FIRST;
+
+    private static final int MAX_SUGGESTIONS = 3;
+    static final int MAX_CACHED_SUGGESTIONS = 10_000;
+
+    // Normalized key -> official spelling
+    private final Map<String, String> names;
+    private volatile BkTree suggestionTree;
+    // The same misspellings recur all over a country, so suggestions are memoized up to a fixed bound
+    private final Map<String, List<String>> suggestionCache = new ConcurrentHashMap<>();
+
+    ToponymGazetteer(Collection<String> officialNames) {
+        Map<String, String> keys = new HashMap<>(officialNames.size() * 4 / 3 + 1);
+        for (String name : officialNames) {
+            keys.putIfAbsent(normalize(name), name);
+        }
+        this.names = Collections.unmodifiableMap(keys);
+    }
+
+    boolean contains(String name) {
+        return name != null && names.containsKey(normalize(name));
+    }
+
+    /**
+     * Returns up to three official spellings closest to the given name, closest first. Names of up to
+     * four characters allow one edit, longer names two.
+     */
+    List<String> suggest(String name) {
+        String key = normalize(name);
+        List<String> cached = suggestionCache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        int maxDistance = key.length() <= 4 ? 1 : 2;
+        List<String> suggestions = new ArrayList<>(MAX_SUGGESTIONS);
+        for (BkTree.Match match : suggestionTree().search(key, maxDistance)) {
+            if (suggestions.size() == MAX_SUGGESTIONS) {
+                break;
+            }
+            suggestions.add(names.get(match.word));
+        }
+        suggestions = Collections.unmodifiableList(suggestions);
+        if (suggestionCache.size() < MAX_CACHED_SUGGESTIONS) {
+            suggestionCache.put(key, suggestions);
+        }
+        return suggestions;
+    }
+
+    private BkTree suggestionTree() {
+        BkTree tree = suggestionTree;
+        if (tree == null) {
+            synchronized (this) {
+                tree = suggestionTree;
+                if (tree == null) {
+                    tree = new BkTree(names.keySet());
+                    suggestionTree = tree;
+                }
+            }
+        }
+        return tree;
+    }
+
+    /**
+     * Returns the official spellings, one per normalized key.
+     */
+    Collection<String> officialNames() {
+        return names.values();
+    }
+
+    int size() {
+        return names.size();
+    }
+
+    /**
+     * Returns the lookup key for the given name: NFC composed, stripped and folded to Mkhedruli.
+     * The argument itself is returned when it is already normalized.
+     */
+    static String normalize(String name) {
+        String key = isComposed(name) ? name : Normalizer.normalize(name, Normalizer.Form.NFC);
+        key = key.strip();
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            if (c >= MTAVRULI_FIRST && c <= MTAVRULI_LAST) {
+                return foldMtavruli(key, i);
+            }
+        }
+        return key;
+    }
+
+    /**
+     * Tests whether the name is NFC composed. Text below the combining diacritics (U+0300) and Georgian
+     * letters are never changed by composition, which settles the common case without the allocations
+     * of {@link Normalizer#isNormalized}.
+     */
+    private static boolean isComposed(String name) {
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (c >= '\u0300' && !isGeorgian(c)) {
+                return Normalizer.isNormalized(name, Normalizer.Form.NFC);
+            }
+        }
+        return true;
+    }
+
+    private static boolean isGeorgian(char c) {
+        return (c >= '\u10A0' && c <= '\u10FF') || (c >= MTAVRULI_FIRST && c <= MTAVRULI_LAST)
+                || (c >= '\u2D00' && c <= '\u2D2F');
+    }
+
+    private static String foldMtavruli(String key, int from) {
+        char[] chars = key.toCharArray();
+        for (int i = from; i < chars.length; i++) {
+            if (chars[i] >= MTAVRULI_FIRST && chars[i] <= MTAVRULI_LAST) {
+                chars[i] = (char) (chars[i] + MTAVRULI_TO_MKHEDRULI);
+            }
+        }
+        return new String(chars);
+    }
+}
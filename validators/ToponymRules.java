@@ -0,0 +1,46 @@
+package org.openstreetmap.josm.data.validation.tests;
+
+/**
+ * Tagging rules shared by the JOSM validator and the headless {@link BulkValidator}.
+ */
+final class ToponymRules {
+
+    private ToponymRules() {
+        // Hide default constructor for utility classes
+    }
+
+    /**
+     * Tests whether a {@code place=*} value is one whose names are checked against the gazetteer.
+     */
+    static boolean isCheckedPlace(String place) {
+        if (place == null) {
+            return false;
+        }
+        switch (place) {
+            case "city":
+            case "town":
+            case "village":
+            case "neighbourhood":
+            case "quarter":
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Tests whether the tags identify the admin_level=2 boundary of Georgia.
+     */
+    static boolean isGeorgiaBoundary(String adminLevel, String intName, String iso3166) {
+        return ("2".equals(adminLevel) && "Georgia".equals(intName)) || "GE".equals(iso3166);
+    }
+
+    /**
+     * Returns the gazetteer key of an administrative boundary that may have names of its own: the
+     * {@code name:en} of a region (admin_level=4) or municipality (admin_level=6), otherwise {@code null}.
+     */
+    static String adminUnit(String boundary, String adminLevel, String nameEn) {
+        return "administrative".equals(boundary) && ("4".equals(adminLevel) || "6".equals(adminLevel))
+                ? nameEn : null;
+    }
+}
@@ -0,0 +1,178 @@
+package org.openstreetmap.josm.data.validation.tests;
+
+import org.openstreetmap.josm.tools.Logging;
+
+import java.lang.management.ManagementFactory;
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * Counters and timers of the validator hot paths. One instance collects a single run; at the end of
+ * the run it is added to the JVM-wide totals published over JMX. All counters are {@link LongAdder}s,
+ * so parallel batch checks can update them without contention.
+ */
+final class ValidatorMetrics implements ValidatorMetricsMBean {
+
+    static final String OBJECT_NAME = "org.openstreetmap.josm:type=Validator,name=GeorgianToponyms";
+
+    private static final int HISTOGRAM_BUCKETS = 9;
+
+    final LongAdder runs = new LongAdder();
+    final LongAdder nodesVisited = new LongAdder();
+    final LongAdder placeNodes = new LongAdder();
+    final LongAdder placeAreas = new LongAdder();
+    final LongAdder containmentChecks = new LongAdder();
+    final LongAdder lookupsKa = new LongAdder();
+    final LongAdder missesKa = new LongAdder();
+    final LongAdder lookupsEn = new LongAdder();
+    final LongAdder missesEn = new LongAdder();
+    final LongAdder visitNanos = new LongAdder();
+    final LongAdder endTestNanos = new LongAdder();
+    private final LongAdder[] relationsTraversed = new LongAdder[HISTOGRAM_BUCKETS];
+
+    ValidatorMetrics() {
+        for (int i = 0; i < HISTOGRAM_BUCKETS; i++) {
+            relationsTraversed[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * JVM-wide totals, registered as MBean on first use.
+     */
+    static ValidatorMetrics totals() {
+        return Totals.INSTANCE;
+    }
+
+    void recordRelationsTraversed(int relations) {
+        relationsTraversed[Math.min(relations, HISTOGRAM_BUCKETS - 1)].increment();
+    }
+
+    void recordLookup(boolean ka, boolean hit) {
+        (ka ? lookupsKa : lookupsEn).increment();
+        if (!hit) {
+            (ka ? missesKa : missesEn).increment();
+        }
+    }
+
+    void addTo(ValidatorMetrics target) {
+        target.runs.add(runs.sum());
+        target.nodesVisited.add(nodesVisited.sum());
+        target.placeNodes.add(placeNodes.sum());
+        target.placeAreas.add(placeAreas.sum());
+        target.containmentChecks.add(containmentChecks.sum());
+        target.lookupsKa.add(lookupsKa.sum());
+        target.missesKa.add(missesKa.sum());
+        target.lookupsEn.add(lookupsEn.sum());
+        target.missesEn.add(missesEn.sum());
+        target.visitNanos.add(visitNanos.sum());
+        target.endTestNanos.add(endTestNanos.sum());
+        for (int i = 0; i < HISTOGRAM_BUCKETS; i++) {
+            target.relationsTraversed[i].add(relationsTraversed[i].sum());
+        }
+    }
+
+    String summary() {
+        StringBuilder histogram = new StringBuilder();
+        for (long count : getRelationsTraversedHistogram()) {
+            histogram.append(histogram.length() == 0 ? "" : ",").append(count);
+        }
+        return String.format(Locale.ROOT, "%d nodes visited, %d place nodes, %d place areas, %d containment checks, "
+                + "name:ka %d lookups/%d misses, name:en %d lookups/%d misses, "
+                + "visit %.1f ms, endTest %.1f ms, relations per walk [%s]",
+                getNodesVisited(), getPlaceNodes(), getPlaceAreas(), getContainmentChecks(), getLookupsKa(),
+                getMissesKa(), getLookupsEn(), getMissesEn(), getVisitNanos() / 1e6, getEndTestNanos() / 1e6,
+                histogram);
+    }
+
+    @Override
+    public long getRuns() {
+        return runs.sum();
+    }
+
+    @Override
+    public long getNodesVisited() {
+        return nodesVisited.sum();
+    }
+
+    @Override
+    public long getPlaceNodes() {
+        return placeNodes.sum();
+    }
+
+    @Override
+    public long getPlaceAreas() {
+        return placeAreas.sum();
+    }
+
+    @Override
+    public long getContainmentChecks() {
+        return containmentChecks.sum();
+    }
+
+    @Override
+    public long getLookupsKa() {
+        return lookupsKa.sum();
+    }
+
+    @Override
+    public long getMissesKa() {
+        return missesKa.sum();
+    }
+
+    @Override
+    public long getLookupsEn() {
+        return lookupsEn.sum();
+    }
+
+    @Override
+    public long getMissesEn() {
+        return missesEn.sum();
+    }
+
+    @Override
+    public long getVisitNanos() {
+        return visitNanos.sum();
+    }
+
+    @Override
+    public long getEndTestNanos() {
+        return endTestNanos.sum();
+    }
+
+    @Override
+    public long[] getRelationsTraversedHistogram() {
+        long[] histogram = new long[HISTOGRAM_BUCKETS];
+        for (int i = 0; i < HISTOGRAM_BUCKETS; i++) {
+            histogram[i] = relationsTraversed[i].sum();
+        }
+        return histogram;
+    }
+
+    @Override
+    public void reset() {
+        for (LongAdder adder : new LongAdder[] {runs, nodesVisited, placeNodes, placeAreas, containmentChecks,
+                lookupsKa, missesKa, lookupsEn, missesEn, visitNanos, endTestNanos}) {
+            adder.reset();
+        }
+        for (LongAdder bucket : relationsTraversed) {
+            bucket.reset();
+        }
+    }
+
+    private static final class Totals {
+        static final ValidatorMetrics INSTANCE = register(new ValidatorMetrics());
+
+        private static ValidatorMetrics register(ValidatorMetrics metrics) {
+            try {
+                ManagementFactory.getPlatformMBeanServer().registerMBean(metrics, new ObjectName(OBJECT_NAME));
+            } catch (JMException | SecurityException e) {
+                Logging.warn("Georgian toponyms: cannot register {0}", OBJECT_NAME);
+                Logging.warn(e);
+            }
+            return metrics;
+        }
+    }
+}
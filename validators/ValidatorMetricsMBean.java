@@ -0,0 +1,37 @@
+package org.openstreetmap.josm.data.validation.tests;
+
+/**
+ * JMX view of the {@link GeorgianToponyms} counters, accumulated over all runs with metrics enabled.
+ */
+public interface ValidatorMetricsMBean {
+
+    long getRuns();
+
+    long getNodesVisited();
+
+    long getPlaceNodes();
+
+    long getPlaceAreas();
+
+    long getContainmentChecks();
+
+    long getLookupsKa();
+
+    long getMissesKa();
+
+    long getLookupsEn();
+
+    long getMissesEn();
+
+    long getVisitNanos();
+
+    long getEndTestNanos();
+
+    /**
+     * Returns how many referrer walks traversed 0, 1, 2, ... relations; the last bucket also counts
+     * all longer walks.
+     */
+    long[] getRelationsTraversedHistogram();
+
+    void reset();
+}